@@ -0,0 +1,102 @@
+// src/jmh/java/com/natwest/automation/benchmarks/BenchmarkPayloads.java
+package com.natwest.automation.benchmarks;
+
+import com.natwest.automation.model.ObjectData;
+import com.natwest.automation.utils.JsonUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Payloads shaped like the suite's own: the fields of payloads/new_object.json plus
+ * {@code dataEntries} extra keys in "data", alternating strings and numbers, to scale from a
+ * small request up to a very large data map.
+ */
+final class BenchmarkPayloads {
+
+    private BenchmarkPayloads() {
+    }
+
+    /**
+     * Builds the expected payload with the given number of extra data entries.
+     */
+    static ObjectData objectData(int dataEntries) {
+        ObjectData payload = new ObjectData();
+        payload.setName("Apple Vision Pro");
+        ObjectData.Data data = new ObjectData.Data();
+        data.setYear(2024);
+        data.setPrice(3499.99);
+        data.setCpuModel("Apple M2 & R1");
+        data.setHardDiskSize("512 GB");
+        for (int i = 0; i < dataEntries; i++) {
+            data.setAdditionalProperty("spec " + i, i % 2 == 0 ? "value " + i : (Object) (i * 1.25));
+        }
+        payload.setData(data);
+        return payload;
+    }
+
+    /**
+     * The response the API returns when the payload is created: the payload plus "id" and "createdAt".
+     */
+    static byte[] createdResponse(ObjectData payload) {
+        String body = JsonUtils.toJson(payload);
+        return ("{\"id\":\"ff808181932badb60193\",\"createdAt\":\"2025-05-05T10:15:30.123+00:00\"," + body.substring(1))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the payload as payloads/fileName in a new temporary directory, so that JsonUtils can load it
+     * through the directory's class loader without touching the build output.
+     */
+    static PayloadFile writePayload(ObjectData payload, String fileName) throws IOException {
+        Path directory = Files.createTempDirectory("benchmark-payloads");
+        Path file = Files.createDirectories(directory.resolve("payloads")).resolve(fileName);
+        Files.write(file, JsonUtils.toJson(payload).getBytes(StandardCharsets.UTF_8));
+        return new PayloadFile(directory, "payloads/" + fileName);
+    }
+
+    /**
+     * A payload written by writePayload: its classpath-relative path and a class loader that finds it.
+     */
+    static final class PayloadFile implements Closeable {
+
+        private final Path directory;
+        private final String path;
+        private final URLClassLoader classLoader;
+
+        private PayloadFile(Path directory, String path) throws IOException {
+            this.directory = directory;
+            this.path = path;
+            this.classLoader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, BenchmarkPayloads.class.getClassLoader());
+        }
+
+        String path() {
+            return path;
+        }
+
+        ClassLoader classLoader() {
+            return classLoader;
+        }
+
+        /**
+         * Closes the class loader and deletes the temporary directory.
+         */
+        @Override
+        public void close() throws IOException {
+            classLoader.close();
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+}
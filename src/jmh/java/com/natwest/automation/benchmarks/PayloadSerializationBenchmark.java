@@ -0,0 +1,56 @@
+// src/jmh/java/com/natwest/automation/benchmarks/PayloadSerializationBenchmark.java
+package com.natwest.automation.benchmarks;
+
+import com.natwest.automation.model.ObjectData;
+import com.natwest.automation.utils.EncodedBody;
+import com.natwest.automation.utils.JsonUtils;
+import com.natwest.automation.utils.ObjectDataEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning an ObjectData payload into a POST body: a full pass of the shared Jackson writer,
+ * a repeat of an already encoded payload, and a template rendered with a new name and price.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PayloadSerializationBenchmark {
+
+    @Param({"0", "16", "1024", "65536"})
+    public int dataEntries;
+
+    private ObjectData payload;
+    private ObjectDataEncoder.Template template;
+    private int variant;
+
+    @Setup
+    public void buildPayload() {
+        payload = BenchmarkPayloads.objectData(dataEntries);
+        template = ObjectDataEncoder.template(payload);
+    }
+
+    @Benchmark
+    public String serializePostBody() {
+        return JsonUtils.toJson(payload);
+    }
+
+    @Benchmark
+    public EncodedBody encodeRepeatedPayload() {
+        return ObjectDataEncoder.encode(payload);
+    }
+
+    @Benchmark
+    public EncodedBody renderTemplateVariant() {
+        variant++;
+        return template.render("Apple Vision Pro " + variant, 3499.99 + variant);
+    }
+}
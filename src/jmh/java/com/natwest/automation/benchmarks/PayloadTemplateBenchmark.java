@@ -0,0 +1,75 @@
+// src/jmh/java/com/natwest/automation/benchmarks/PayloadTemplateBenchmark.java
+package com.natwest.automation.benchmarks;
+
+import com.natwest.automation.model.ObjectData;
+import com.natwest.automation.utils.JsonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of JsonUtils.readJsonFileAsObject, as used by "I load the object details from the JSON file",
+ * with the template already cached and with a cold cache (classpath read and full parse on every call).
+ * The payload is written to a temporary directory and loaded through its own class loader; the cold case
+ * evicts it from the cache before each call, outside the measured time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PayloadTemplateBenchmark {
+
+    @Param({"0", "16", "1024", "65536"})
+    public int dataEntries;
+
+    private BenchmarkPayloads.PayloadFile payloadFile;
+
+    @Setup(Level.Trial)
+    public void writePayload() throws IOException {
+        payloadFile = BenchmarkPayloads.writePayload(BenchmarkPayloads.objectData(dataEntries),
+                "benchmark-template-" + dataEntries + ".json");
+        read(); // Warm the cache for cachedTemplate
+    }
+
+    @TearDown(Level.Trial)
+    public void deletePayload() throws IOException {
+        JsonUtils.evictFromCache(payloadFile.path());
+        payloadFile.close();
+    }
+
+    @Benchmark
+    public ObjectData cachedTemplate() {
+        return read();
+    }
+
+    @Benchmark
+    public ObjectData uncachedTemplate(ColdCache coldCache) {
+        return read();
+    }
+
+    private ObjectData read() {
+        return JsonUtils.readJsonFileAsObject(payloadFile.path(), ObjectData.class, payloadFile.classLoader());
+    }
+
+    /**
+     * Empties the cache entry before every call of the benchmark that uses it. Level.Invocation adds a little
+     * timing overhead per call, which is small next to a classpath read and parse.
+     */
+    @State(Scope.Thread)
+    public static class ColdCache {
+
+        @Setup(Level.Invocation)
+        public void evict(PayloadTemplateBenchmark benchmark) {
+            JsonUtils.evictFromCache(benchmark.payloadFile.path());
+        }
+    }
+}
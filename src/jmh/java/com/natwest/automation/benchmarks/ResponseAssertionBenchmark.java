@@ -0,0 +1,66 @@
+// src/jmh/java/com/natwest/automation/benchmarks/ResponseAssertionBenchmark.java
+package com.natwest.automation.benchmarks;
+
+import com.natwest.automation.model.ObjectData;
+import com.natwest.automation.validation.ResponseValidator;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+
+/**
+ * Cost of checking a created-object response: the compiled ResponseValidator used by ObjectApiSteps,
+ * against the per-field GPath/Hamcrest assertions it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ResponseAssertionBenchmark {
+
+    @Param({"0", "16", "1024", "65536"})
+    public int dataEntries;
+
+    private ObjectData expected;
+    private Response response;
+
+    @Setup
+    public void buildResponse() {
+        expected = BenchmarkPayloads.objectData(dataEntries);
+        response = new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(BenchmarkPayloads.createdResponse(expected))
+                .build();
+    }
+
+    @Benchmark
+    public Response compiledValidator() {
+        ResponseValidator.forType(ObjectData.class).assertMatches(expected, response, "id", "createdAt");
+        return response;
+    }
+
+    @Benchmark
+    public Response gpathAssertions() {
+        ObjectData.Data data = expected.getData();
+        response.then()
+                .body("id", notNullValue())
+                .body("name", equalTo(expected.getName()))
+                .body("createdAt", notNullValue());
+        response.then().body("data.year", equalTo(data.getYear()));
+        response.then().body("data.price", equalTo(data.getPrice().floatValue()));
+        response.then().body("data.\"CPU model\"", equalTo(data.getCpuModel()));
+        response.then().body("data.\"Hard disk size\"", equalTo(data.getHardDiskSize()));
+        return response;
+    }
+}
@@ -0,0 +1,168 @@
+// src/test/java/com/natwest/automation/async/AsyncObjectRequests.java
+package com.natwest.automation.async;
+
+import com.natwest.automation.cleanup.CreatedObjectRegistry;
+import com.natwest.automation.config.ApiConfig;
+import com.natwest.automation.config.ObjectsEndpoint;
+import com.natwest.automation.http.RateLimiter;
+import com.natwest.automation.http.SharedJdkHttpClient;
+import com.natwest.automation.http.TokenBucket;
+import com.natwest.automation.metrics.EndpointMetrics;
+import com.natwest.automation.utils.EncodedBody;
+import com.natwest.automation.utils.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Sends many /objects requests at once on the shared non-blocking java.net.http client.
+ * Requests are started with sendAsync, so no thread waits on a response; a semaphore keeps at most
+ * {@code maxConcurrency} of them in flight. Timings go into EndpointMetrics like RestAssured calls do.
+ * Each request first takes a token from the endpoint's RateLimiter bucket; throttled responses are
+ * returned as they are rather than retried, so fan-out steps see exactly what the server answered.
+ * <ul>
+ *   <li>async.max.concurrency - requests in flight at once (default 64)</li>
+ *   <li>async.request.timeout.ms - time allowed for each response (default 30000)</li>
+ * </ul>
+ */
+public class AsyncObjectRequests {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncObjectRequests.class);
+
+    private final String baseUrl;
+    private final int maxConcurrency;
+    private final Duration requestTimeout;
+
+    public AsyncObjectRequests(String baseUrl) {
+        this(baseUrl, ApiConfig.intProperty("async.max.concurrency", 64));
+    }
+
+    public AsyncObjectRequests(String baseUrl, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1, but was " + maxConcurrency);
+        }
+        this.baseUrl = baseUrl;
+        this.maxConcurrency = maxConcurrency;
+        this.requestTimeout = Duration.ofMillis(ApiConfig.longProperty("async.request.timeout.ms", 30_000));
+    }
+
+    /**
+     * Sends GET /objects/{id} for every ID and returns the responses in the order of the IDs.
+     */
+    public List<AsyncResponse> getAll(List<String> ids) throws InterruptedException {
+        List<HttpRequest> requests = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            requests.add(newRequest("/objects/" + id).GET().build());
+        }
+        return sendAll(ObjectsEndpoint.GET, requests, index -> ids.get(index), body -> null);
+    }
+
+    /**
+     * Sends POST /objects for every pre-serialized body, e.g. rendered from an ObjectDataEncoder template,
+     * and returns the responses in the order of the bodies.
+     * Created objects are recorded in the CreatedObjectRegistry for teardown.
+     */
+    public List<AsyncResponse> createAll(List<EncodedBody> bodies) throws InterruptedException {
+        List<HttpRequest> requests = new ArrayList<>(bodies.size());
+        for (EncodedBody body : bodies) {
+            requests.add(newRequest("/objects")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body.bytes()))
+                    .build());
+        }
+        List<AsyncResponse> responses = sendAll(ObjectsEndpoint.CREATE, requests, index -> null, AsyncObjectRequests::createdId);
+        for (AsyncResponse response : responses) {
+            if (response.getStatusCode() == 200 && response.getObjectId() != null) {
+                CreatedObjectRegistry.instance().register(baseUrl, response.getObjectId());
+            }
+        }
+        return responses;
+    }
+
+    private static String createdId(String body) {
+        try {
+            return JsonUtils.readTree(body.getBytes(StandardCharsets.UTF_8)).path("id").asText(null);
+        } catch (RuntimeException e) {
+            return null; // Reported as a created response without an ID
+        }
+    }
+
+    private HttpRequest.Builder newRequest(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Accept", "application/json")
+                .timeout(requestTimeout);
+    }
+
+    /**
+     * Starts every request as soon as a concurrency slot is free and waits for all of them to finish.
+     */
+    private List<AsyncResponse> sendAll(ObjectsEndpoint endpoint, List<HttpRequest> requests,
+                                        Function<Integer, String> requestedId, Function<String, String> idFromBody)
+            throws InterruptedException {
+        Semaphore inFlight = new Semaphore(maxConcurrency);
+        TokenBucket bucket = RateLimiter.instance().bucket(endpoint);
+        List<CompletableFuture<AsyncResponse>> futures = new ArrayList<>(requests.size());
+        long start = System.nanoTime();
+        for (int i = 0; i < requests.size(); i++) {
+            int index = i;
+            inFlight.acquire();
+            long waited;
+            try {
+                waited = bucket.acquire(); // Shares the suite-wide quota with the RestAssured requests
+            } catch (InterruptedException e) {
+                inFlight.release();
+                throw e;
+            }
+            if (waited > 0) {
+                EndpointMetrics.forEndpoint(endpoint.label()).recordWait(waited, 0);
+            }
+            long sent = System.nanoTime();
+            CompletableFuture<HttpResponse<String>> exchange;
+            try {
+                exchange = SharedJdkHttpClient.get()
+                        .sendAsync(requests.get(i), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            } catch (RuntimeException e) {
+                // Rejected before it was sent (e.g. an invalid request); the handler below will never release the slot
+                inFlight.release();
+                long durationNanos = System.nanoTime() - sent;
+                EndpointMetrics.forEndpoint(endpoint.label()).recordFailure(durationNanos);
+                futures.add(CompletableFuture.completedFuture(
+                        new AsyncResponse(index, requestedId.apply(index), 0, null, durationNanos, e.toString())));
+                continue;
+            }
+            CompletableFuture<AsyncResponse> future = exchange
+                    .handle((response, failure) -> {
+                        inFlight.release();
+                        long durationNanos = System.nanoTime() - sent;
+                        if (failure != null) {
+                            EndpointMetrics.forEndpoint(endpoint.label()).recordFailure(durationNanos);
+                            return new AsyncResponse(index, requestedId.apply(index), 0, null, durationNanos, failure.toString());
+                        }
+                        EndpointMetrics.forEndpoint(endpoint.label()).record(durationNanos, response.statusCode());
+                        String id = requestedId.apply(index);
+                        if (id == null && response.statusCode() == 200) {
+                            id = idFromBody.apply(response.body());
+                        }
+                        return new AsyncResponse(index, id, response.statusCode(), response.body(), durationNanos, null);
+                    });
+            futures.add(future);
+        }
+        List<AsyncResponse> responses = new ArrayList<>(futures.size());
+        for (CompletableFuture<AsyncResponse> future : futures) {
+            responses.add(future.join());
+        }
+        logger.info("{} concurrent {} requests (max {} in flight) finished in {} ms", requests.size(), endpoint.label(),
+                maxConcurrency, (System.nanoTime() - start) / 1_000_000);
+        return responses;
+    }
+}
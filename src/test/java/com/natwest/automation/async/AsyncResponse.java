@@ -0,0 +1,55 @@
+// src/test/java/com/natwest/automation/async/AsyncResponse.java
+package com.natwest.automation.async;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of one request in a concurrent fan-out. A transport failure has status code 0 and an error message.
+ */
+public class AsyncResponse {
+
+    private final int index;
+    private final String objectId; // Requested ID for GET, created ID for POST (null if none)
+    private final int statusCode;
+    private final String body;
+    private final long durationNanos;
+    private final String error;
+
+    public AsyncResponse(int index, String objectId, int statusCode, String body, long durationNanos, String error) {
+        this.index = index;
+        this.objectId = objectId;
+        this.statusCode = statusCode;
+        this.body = body;
+        this.durationNanos = durationNanos;
+        this.error = error;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getObjectId() {
+        return objectId;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public long getDurationMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(durationNanos);
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "#" + index + " id=" + objectId + " status=" + statusCode + (error != null ? " error=" + error : "");
+    }
+}
@@ -0,0 +1,117 @@
+// src/test/java/com/natwest/automation/bulk/BulkCreationResult.java
+package com.natwest.automation.bulk;
+
+import com.natwest.automation.metrics.LatencySummary;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts and latencies of one bulk creation run. Only counters and a fixed number of sample
+ * failures are kept, so the result stays the same size however many records are sent.
+ */
+public class BulkCreationResult {
+
+    private static final int MAX_SAMPLE_FAILURES = 20;
+
+    private final LongAdder records = new LongAdder();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder mismatched = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Histogram latencyMicros = new ConcurrentHistogram(3);
+    private final List<String> sampleFailures = new ArrayList<>();
+    private long elapsedNanos;
+
+    void recordSent() {
+        records.increment();
+    }
+
+    void recordLatency(long durationNanos) {
+        latencyMicros.recordValue(TimeUnit.NANOSECONDS.toMicros(durationNanos));
+    }
+
+    void recordCreated() {
+        created.increment();
+    }
+
+    void recordMismatch(long recordNumber, String reason) {
+        mismatched.increment();
+        addSample("record " + recordNumber + ": " + reason);
+    }
+
+    void recordFailure(long recordNumber, String reason) {
+        failed.increment();
+        addSample("record " + recordNumber + ": " + reason);
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    private synchronized void addSample(String failure) {
+        if (sampleFailures.size() < MAX_SAMPLE_FAILURES) {
+            sampleFailures.add(failure);
+        }
+    }
+
+    public long getRecords() {
+        return records.sum();
+    }
+
+    /**
+     * Records created with a response that matched the source record.
+     */
+    public long getCreated() {
+        return created.sum();
+    }
+
+    /**
+     * Records created, but with a response that differed from the source record.
+     */
+    public long getMismatched() {
+        return mismatched.sum();
+    }
+
+    /**
+     * Records that could not be created (non-200 status, no ID, or a transport error).
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public synchronized List<String> getSampleFailures() {
+        return new ArrayList<>(sampleFailures);
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedNanos / 1e9;
+    }
+
+    /**
+     * Multi-line summary for logs and the Serenity report.
+     */
+    public String summary() {
+        StringBuilder summary = new StringBuilder(String.format(Locale.ROOT,
+                "records: %d%ncreated: %d%nmismatched: %d%nfailed: %d%nelapsed: %.1f s (%.1f objects/s)%n%s",
+                getRecords(), getCreated(), getMismatched(), getFailed(), getElapsedSeconds(),
+                getElapsedSeconds() > 0 ? getRecords() / getElapsedSeconds() : 0.0,
+                LatencySummary.format(latencyMicros.copy())));
+        List<String> samples = getSampleFailures();
+        if (!samples.isEmpty()) {
+            summary.append(String.format("%nfirst failures:"));
+            samples.forEach(sample -> summary.append(String.format("%n  %s", sample)));
+        }
+        return summary.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "records=%d, created=%d, mismatched=%d, failed=%d, elapsed=%.1fs",
+                getRecords(), getCreated(), getMismatched(), getFailed(), getElapsedSeconds());
+    }
+}
@@ -0,0 +1,119 @@
+// src/test/java/com/natwest/automation/bulk/BulkObjectCreator.java
+package com.natwest.automation.bulk;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.natwest.automation.cleanup.CreatedObjectRegistry;
+import com.natwest.automation.http.ApiClient;
+import com.natwest.automation.model.ObjectData;
+import com.natwest.automation.utils.JsonUtils;
+import com.natwest.automation.validation.ResponseValidator;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates one object per record of a JSON Lines payload file.
+ * Records are parsed one at a time and at most {@code concurrency} POST requests are in flight,
+ * so memory use does not grow with the size of the file. Each response is checked against the
+ * record it was created from, and created objects are handed to the CreatedObjectRegistry for teardown.
+ */
+public class BulkObjectCreator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkObjectCreator.class);
+
+    private final String baseUrl;
+    private final int concurrency;
+
+    public BulkObjectCreator(String baseUrl, int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1, but was " + concurrency);
+        }
+        this.baseUrl = baseUrl;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Creates every record in the classpath JSON Lines file and returns the outcome.
+     */
+    public BulkCreationResult createAll(String payloadPath) throws InterruptedException {
+        BulkCreationResult result = new BulkCreationResult();
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService senders = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "bulk-create-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.nanoTime();
+        long recordNumber = 0;
+        try (MappingIterator<ObjectData> records = JsonUtils.readJsonLines(payloadPath, ObjectData.class)) {
+            while (records.hasNextValue()) {
+                ObjectData record = records.nextValue();
+                long number = ++recordNumber;
+                inFlight.acquire(); // Wait for a free slot before reading further ahead
+                result.recordSent();
+                try {
+                    senders.execute(() -> {
+                        try {
+                            create(number, record, result);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    inFlight.release();
+                    throw e;
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read record " + (recordNumber + 1) + " of " + payloadPath, e);
+        } finally {
+            senders.shutdown();
+            senders.awaitTermination(10, TimeUnit.MINUTES);
+            result.setElapsedNanos(System.nanoTime() - start);
+        }
+        logger.info("Bulk creation from {}: {}", payloadPath, result);
+        return result;
+    }
+
+    private void create(long recordNumber, ObjectData record, BulkCreationResult result) {
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ApiClient.plainGiven(baseUrl)
+                    .body(record)
+                    .when()
+                    .post("/objects");
+        } catch (RuntimeException e) {
+            result.recordFailure(recordNumber, e.getClass().getSimpleName() + ": " + e.getMessage());
+            return;
+        }
+        result.recordLatency(System.nanoTime() - start);
+        if (response.getStatusCode() != 200) {
+            result.recordFailure(recordNumber, "HTTP " + response.getStatusCode());
+            return;
+        }
+        JsonNode created = JsonUtils.readTree(response.asByteArray());
+        String id = created.path("id").asText(null);
+        if (id == null) {
+            result.recordFailure(recordNumber, "response has no id");
+            return;
+        }
+        CreatedObjectRegistry.instance().register(baseUrl, id);
+        List<String> mismatches = ResponseValidator.forType(ObjectData.class).validate(record, created);
+        if (!mismatches.isEmpty()) {
+            result.recordMismatch(recordNumber, String.join("; ", mismatches));
+        } else {
+            result.recordCreated();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+// src/test/java/com/natwest/automation/capture/CaptureStore.java
+package com.natwest.automation.capture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * On-disk store of recorded HTTP exchanges.
+ * <ul>
+ *   <li>exchanges.bin - the responses, appended as length-prefixed records (status, content type, body)</li>
+ *   <li>exchanges.idx - one "key TAB offset" line per record, loaded into memory for replay</li>
+ * </ul>
+ * A request key can be recorded more than once (e.g. GET before and after a DELETE); replay returns
+ * its recordings in the order they were made, and fails once they run out rather than repeating one.
+ * A recording holds a lock file in its directory until it is closed, so a second JVM cannot truncate
+ * or interleave with it.
+ */
+class CaptureStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(CaptureStore.class);
+    private static final String DATA_FILE = "exchanges.bin";
+    private static final String INDEX_FILE = "exchanges.idx";
+    private static final String LOCK_FILE = "recording.lock";
+
+    private final Path directory;
+    private final Map<String, List<Long>> index = new HashMap<>(); // Key -> offsets, in recording order
+    private final Map<String, AtomicInteger> replayPositions = new ConcurrentHashMap<>();
+    private FileChannel data;
+    private BufferedWriter indexWriter;
+    private FileChannel lock; // Held while recording
+
+    private CaptureStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Starts a new, empty recording in the directory, replacing any earlier one.
+     */
+    static CaptureStore createForRecording(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        CaptureStore store = new CaptureStore(directory);
+        store.lock = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        if (store.lock.tryLock() == null) {
+            store.lock.close();
+            throw new IOException("Another JVM is recording into " + directory + "; give each recording run its own capture.dir");
+        }
+        store.data = FileChannel.open(directory.resolve(DATA_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        store.indexWriter = Files.newBufferedWriter(directory.resolve(INDEX_FILE), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        return store;
+    }
+
+    /**
+     * Opens an existing recording for replay, loading its index.
+     */
+    static CaptureStore openForReplay(Path directory) throws IOException {
+        Path indexFile = directory.resolve(INDEX_FILE);
+        if (!Files.exists(indexFile)) {
+            throw new IOException("No recording found in " + directory + "; run once with -Dcapture.mode=record first");
+        }
+        CaptureStore store = new CaptureStore(directory);
+        try (BufferedReader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int tab = line.lastIndexOf('\t');
+                if (tab > 0) {
+                    store.index.computeIfAbsent(line.substring(0, tab), key -> new ArrayList<>())
+                            .add(Long.parseLong(line.substring(tab + 1)));
+                }
+            }
+        }
+        store.data = FileChannel.open(directory.resolve(DATA_FILE), StandardOpenOption.READ);
+        logger.info("Loaded {} recorded request keys from {}", store.index.size(), directory);
+        return store;
+    }
+
+    /**
+     * Appends one exchange. Safe to call from parallel scenarios.
+     */
+    synchronized void append(String key, CapturedResponse response) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(response.getBody().length + 64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(response.getStatusCode());
+            out.writeUTF(response.getContentType());
+            out.writeInt(response.getBody().length);
+            out.write(response.getBody());
+        }
+        long offset = data.size();
+        ByteBuffer buffer = ByteBuffer.allocate(4 + bytes.size()).putInt(bytes.size()).put(bytes.toByteArray());
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            data.write(buffer, offset + buffer.position());
+        }
+        indexWriter.write(key + "\t" + offset);
+        indexWriter.newLine();
+        indexWriter.flush();
+    }
+
+    /**
+     * Returns the next recorded response for the key, or null if the key was never recorded.
+     * Throws once every recording of the key has been replayed.
+     */
+    CapturedResponse next(String key) throws IOException {
+        List<Long> offsets = index.get(key);
+        if (offsets == null) {
+            return null;
+        }
+        int position = replayPositions.computeIfAbsent(key, k -> new AtomicInteger()).getAndIncrement();
+        if (position >= offsets.size()) {
+            throw new IllegalStateException("Request " + (position + 1) + " for " + key + " was not recorded; the recording in "
+                    + directory + " has " + offsets.size() + " of them. Record again with the same scenarios and tags.");
+        }
+        return read(offsets.get(position));
+    }
+
+    private CapturedResponse read(long offset) throws IOException {
+        ByteBuffer length = ByteBuffer.allocate(4);
+        readFully(length, offset);
+        ByteBuffer record = ByteBuffer.allocate(length.getInt(0));
+        readFully(record, offset + 4);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record.array()))) {
+            int statusCode = in.readInt();
+            String contentType = in.readUTF();
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            return new CapturedResponse(statusCode, contentType, body);
+        }
+    }
+
+    /**
+     * Positional read, so concurrent replays never move a shared file pointer.
+     */
+    private void readFully(ByteBuffer buffer, long offset) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (data.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Recording in " + directory + " is truncated at offset " + offset);
+            }
+        }
+    }
+
+    synchronized void close() throws IOException {
+        if (indexWriter != null) {
+            indexWriter.close();
+        }
+        data.close();
+        if (lock != null) {
+            lock.close(); // Releases the lock
+        }
+    }
+}
@@ -0,0 +1,30 @@
+// src/test/java/com/natwest/automation/capture/CapturedResponse.java
+package com.natwest.automation.capture;
+
+/**
+ * The parts of a response that are recorded and replayed.
+ */
+class CapturedResponse {
+
+    private final int statusCode;
+    private final String contentType;
+    private final byte[] body;
+
+    CapturedResponse(int statusCode, String contentType, byte[] body) {
+        this.statusCode = statusCode;
+        this.contentType = contentType == null ? "" : contentType;
+        this.body = body == null ? new byte[0] : body;
+    }
+
+    int getStatusCode() {
+        return statusCode;
+    }
+
+    String getContentType() {
+        return contentType;
+    }
+
+    byte[] getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,176 @@
+// src/test/java/com/natwest/automation/capture/HttpCaptureFilter.java
+package com.natwest.automation.capture;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.natwest.automation.config.ApiConfig;
+import com.natwest.automation.utils.JsonUtils;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * RestAssured filter that records request/response pairs to disk, or answers requests from an earlier recording.
+ * <ul>
+ *   <li>capture.mode=record - send requests to serenity.base.url as usual and store every exchange</li>
+ *   <li>capture.mode=replay - answer every request from the store without touching the network</li>
+ *   <li>capture.dir - where the store lives (default target/http-capture); each shard of a sharded run
+ *       (shard.count above 1) records to and replays from its own shard-&lt;index&gt;-of-&lt;count&gt; sub-directory</li>
+ * </ul>
+ * Requests are matched on method, path, query and a digest of the body, not on the host, so a
+ * recording made against the real API can be replayed with any base URL.
+ * <p>
+ * Object IDs need no rewriting: in replay, each ID a scenario uses comes from a replayed response,
+ * so chained requests such as DELETE /objects/{id} after a POST ask for the recorded ID and find its
+ * recording. "createdAt" is set to the replay time so timestamps stay current.
+ * Only RestAssured traffic is captured; the streaming list and async fan-out steps use java.net.http.
+ */
+public class HttpCaptureFilter implements Filter {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpCaptureFilter.class);
+    // Same timestamp format as the real API, e.g. 2025-05-05T10:15:30.123+00:00
+    private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSxxx");
+
+    private static volatile HttpCaptureFilter active;
+    private static volatile boolean initialised;
+
+    private final boolean replay;
+    private final CaptureStore store;
+    private final Path directory;
+
+    private HttpCaptureFilter(boolean replay, CaptureStore store, Path directory) {
+        this.replay = replay;
+        this.store = store;
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the filter for the configured capture.mode, or null when capture is off.
+     * The store is opened once per JVM and closed on shutdown.
+     */
+    public static HttpCaptureFilter active() {
+        if (!initialised) {
+            synchronized (HttpCaptureFilter.class) {
+                if (!initialised) {
+                    active = create(System.getProperty("capture.mode", "off").trim().toLowerCase(Locale.ROOT));
+                    initialised = true;
+                }
+            }
+        }
+        return active;
+    }
+
+    private static HttpCaptureFilter create(String mode) {
+        if ("off".equals(mode) || mode.isEmpty()) {
+            return null;
+        }
+        if (!"record".equals(mode) && !"replay".equals(mode)) {
+            throw new IllegalArgumentException("capture.mode must be off, record or replay, but was " + mode);
+        }
+        Path directory = Paths.get(System.getProperty("capture.dir", "target/http-capture"));
+        int shardCount = ApiConfig.intProperty("shard.count", 1);
+        if (shardCount > 1) {
+            directory = directory.resolve("shard-" + ApiConfig.intProperty("shard.index", 0) + "-of-" + shardCount);
+        }
+        try {
+            boolean replay = "replay".equals(mode);
+            CaptureStore store = replay ? CaptureStore.openForReplay(directory) : CaptureStore.createForRecording(directory);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> closeQuietly(store), "http-capture-close"));
+            logger.info("HTTP capture in {} mode using {}", mode, directory.toAbsolutePath());
+            return new HttpCaptureFilter(replay, store, directory);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to open HTTP capture store in " + directory, e);
+        }
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        String key = key(requestSpec);
+        try {
+            if (replay) {
+                CapturedResponse recorded = store.next(key);
+                if (recorded == null) {
+                    throw new IllegalStateException("No recorded response for " + key + " in " + directory.toAbsolutePath());
+                }
+                return new ResponseBuilder()
+                        .setStatusCode(recorded.getStatusCode())
+                        .setStatusLine("HTTP/1.1 " + recorded.getStatusCode())
+                        .setContentType(recorded.getContentType())
+                        .setBody(refreshCreatedAt(recorded.getBody()))
+                        .build();
+            }
+            Response response = ctx.next(requestSpec, responseSpec);
+            store.append(key, new CapturedResponse(response.getStatusCode(), response.getContentType(), response.asByteArray()));
+            return response;
+        } catch (IOException e) {
+            throw new RuntimeException("HTTP capture store failed for " + key, e);
+        }
+    }
+
+    /**
+     * "METHOD path?query #digest", where the digest covers the request body if there is one.
+     */
+    static String key(FilterableRequestSpecification requestSpec) {
+        URI uri = URI.create(requestSpec.getURI());
+        StringBuilder key = new StringBuilder(requestSpec.getMethod()).append(' ').append(uri.getRawPath());
+        if (uri.getRawQuery() != null) {
+            key.append('?').append(uri.getRawQuery());
+        }
+        Object body = requestSpec.getBody();
+        if (body != null) {
+            byte[] bytes = body instanceof byte[] ? (byte[]) body : String.valueOf(body).getBytes(StandardCharsets.UTF_8);
+            key.append(" #").append(digest(bytes));
+        }
+        return key.toString();
+    }
+
+    private static String digest(byte[] bytes) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 12; i++) {
+                hex.append(String.format("%02x", hash[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static byte[] refreshCreatedAt(byte[] body) {
+        if (!new String(body, StandardCharsets.UTF_8).contains("\"createdAt\"")) {
+            return body;
+        }
+        JsonNode tree = JsonUtils.readTree(body);
+        if (!tree.isObject() || !tree.path("createdAt").isTextual()) {
+            return body;
+        }
+        ((ObjectNode) tree).put("createdAt", OffsetDateTime.now(ZoneOffset.UTC).format(CREATED_AT_FORMAT));
+        return JsonUtils.toJson(tree).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void closeQuietly(CaptureStore store) {
+        try {
+            store.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close HTTP capture store: {}", e.getMessage());
+        }
+    }
+}
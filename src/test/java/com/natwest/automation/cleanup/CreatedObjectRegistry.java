@@ -0,0 +1,357 @@
+// src/test/java/com/natwest/automation/cleanup/CreatedObjectRegistry.java
+package com.natwest.automation.cleanup;
+
+import com.natwest.automation.config.ApiConfig;
+import com.natwest.automation.http.ApiClient;
+import com.natwest.automation.http.RateLimiter;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Records every object the suite creates so they can be deleted at the end of the run.
+ * <p>
+ * Each creation and deletion is also appended to a journal file ("C baseUrl id" / "D baseUrl id"). Every JVM
+ * (a run, a Gradle test fork or a shard) writes its own journal, named after its process ID and start time,
+ * so runs that share the working directory never write to, rewrite or reap each other's journals.
+ * After a teardown the journal is rewritten to hold only the objects that are still outstanding, or removed
+ * when there are none. The orphan cleanup only deletes objects from journals whose process has exited,
+ * and locks each journal while it works on it, so two cleanups never delete the same entries.
+ * <ul>
+ *   <li>cleanup.journal.dir - directory of the journals (default target/cleanup)</li>
+ *   <li>cleanup.concurrency - parallel DELETE requests during teardown (default 8)</li>
+ *   <li>cleanup.retries - extra attempts per object after a failed DELETE (default 3); throttled responses (429, 503)
+ *       are left to the retries of RateLimitFilter and not retried again</li>
+ *   <li>cleanup.retry.backoff.ms - delay before the first retry, doubled for each further one (default 200)</li>
+ * </ul>
+ */
+public final class CreatedObjectRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(CreatedObjectRegistry.class);
+    private static final String JOURNAL_PREFIX = "created-objects-";
+    private static final String JOURNAL_SUFFIX = ".log";
+    private static final CreatedObjectRegistry INSTANCE = new CreatedObjectRegistry(
+            Paths.get(System.getProperty("cleanup.journal.dir", "target/cleanup")));
+
+    private final Path journalDir;
+    private final Path journal; // This JVM's journal: created-objects-<pid>-<process start millis>.log
+    private final Set<String> outstanding = ConcurrentHashMap.newKeySet(); // "baseUrl id" entries
+    private BufferedWriter journalWriter;
+
+    CreatedObjectRegistry(Path journalDir) {
+        this.journalDir = journalDir;
+        ProcessHandle self = ProcessHandle.current();
+        this.journal = journalDir.resolve(JOURNAL_PREFIX + self.pid() + "-" + startMillis(self) + JOURNAL_SUFFIX);
+    }
+
+    public static CreatedObjectRegistry instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Deletes the objects left in the journals of earlier runs against the configured base URL.
+     * Run with ./gradlew cleanOrphans.
+     */
+    public static void main(String[] args) {
+        TeardownResult result = instance().deleteOrphans(ApiConfig.baseUrl());
+        System.out.println("Orphan cleanup: " + result);
+        result.getFailures().forEach((id, reason) -> System.out.println("  not deleted: " + id + " (" + reason + ")"));
+        System.exit(result.getFailures().isEmpty() ? 0 : 1);
+    }
+
+    /**
+     * Records an object created on the given server.
+     */
+    public void register(String baseUrl, String id) {
+        String entry = entry(baseUrl, id);
+        if (outstanding.add(entry)) {
+            appendToJournal("C " + entry);
+        }
+    }
+
+    /**
+     * Records that an object has been deleted, so teardown does not try to delete it again.
+     */
+    public void markDeleted(String baseUrl, String id) {
+        String entry = entry(baseUrl, id);
+        if (outstanding.remove(entry)) {
+            appendToJournal("D " + entry);
+        }
+    }
+
+    /**
+     * Number of recorded objects not yet deleted.
+     */
+    public int size() {
+        return outstanding.size();
+    }
+
+    /**
+     * Deletes every object recorded in this JVM with bounded concurrency and retries, then rewrites
+     * this JVM's journal so it only lists objects that are still outstanding.
+     */
+    public synchronized TeardownResult deleteAll() {
+        TeardownResult result = delete(new ArrayList<>(outstanding));
+        closeJournal();
+        try {
+            writeJournal(journal, outstanding);
+        } catch (IOException e) {
+            logger.warn("Failed to rewrite cleanup journal {}: {}", journal, e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * Deletes objects that earlier runs recorded in their journals but never deleted.
+     * Journals of processes that are still running are skipped, as are journals another cleanup holds.
+     * Entries for other base URLs are left in their journal untouched.
+     */
+    public synchronized TeardownResult deleteOrphans(String baseUrl) {
+        TeardownResult total = new TeardownResult();
+        List<Path> journals;
+        try (Stream<Path> files = Files.list(journalDir)) {
+            journals = files.filter(CreatedObjectRegistry::isJournal).filter(file -> !file.equals(journal)).collect(Collectors.toList());
+        } catch (NoSuchFileException e) {
+            return total;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to list cleanup journals in " + journalDir, e);
+        }
+        for (Path other : journals) {
+            if (isRunning(other)) {
+                logger.info("Skipping cleanup journal {}: its run is still in progress", other.getFileName());
+                continue;
+            }
+            reap(other, baseUrl, total);
+        }
+        return total;
+    }
+
+    /**
+     * Deletes the orphans for the base URL in one finished run's journal, holding a lock on the journal meanwhile.
+     */
+    private void reap(Path other, String baseUrl, TeardownResult total) {
+        try (FileChannel channel = FileChannel.open(other, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileLock lock = channel.tryLock()) {
+            if (lock == null) {
+                logger.info("Skipping cleanup journal {}: another cleanup is working on it", other.getFileName());
+                return;
+            }
+            Set<String> journalled = readJournal(channel);
+            List<String> orphans = journalled.stream().filter(entry -> entry.startsWith(baseUrl + " ")).collect(Collectors.toList());
+            logger.info("Found {} orphaned objects for {} in {}", orphans.size(), baseUrl, other.getFileName());
+            TeardownResult result = delete(orphans);
+            total.add(result);
+            for (String orphan : orphans) {
+                if (!result.getFailures().containsKey(idOf(orphan))) {
+                    journalled.remove(orphan);
+                }
+            }
+            channel.truncate(0);
+            channel.write(ByteBuffer.wrap(journalLines(journalled).getBytes(StandardCharsets.UTF_8)), 0);
+            if (journalled.isEmpty()) {
+                Files.deleteIfExists(other);
+            }
+        } catch (NoSuchFileException e) {
+            // Reaped and removed by another cleanup in the meantime
+        } catch (IOException | OverlappingFileLockException e) {
+            logger.warn("Failed to clean up journal {}: {}", other, e.getMessage());
+        }
+    }
+
+    private TeardownResult delete(List<String> entries) {
+        TeardownResult result = new TeardownResult();
+        if (entries.isEmpty()) {
+            return result;
+        }
+        int retries = Math.max(0, ApiConfig.intProperty("cleanup.retries", 3));
+        long backoffMillis = ApiConfig.longProperty("cleanup.retry.backoff.ms", 200);
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, ApiConfig.intProperty("cleanup.concurrency", 8)), runnable -> {
+            Thread thread = new Thread(runnable, "object-cleanup-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.nanoTime();
+        try {
+            List<CompletableFuture<Void>> deletions = new ArrayList<>();
+            for (String entry : entries) {
+                deletions.add(CompletableFuture.runAsync(() -> deleteWithRetries(entry, retries, backoffMillis, result), executor));
+            }
+            CompletableFuture.allOf(deletions.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+        logger.info("Deleted {} recorded objects in {} ms: {}", entries.size(), (System.nanoTime() - start) / 1_000_000, result);
+        return result;
+    }
+
+    private void deleteWithRetries(String entry, int retries, long backoffMillis, TeardownResult result) {
+        String baseUrl = entry.substring(0, entry.indexOf(' '));
+        String id = idOf(entry);
+        String lastError = null;
+        for (int attempt = 0; attempt <= retries; attempt++) {
+            if (attempt > 0 && !sleep(backoffMillis << (attempt - 1))) {
+                break;
+            }
+            try {
+                Response response = ApiClient.plainGiven(baseUrl).when().delete("/objects/{id}", id);
+                if (response.getStatusCode() == 200 || response.getStatusCode() == 404) {
+                    if (response.getStatusCode() == 200) {
+                        result.recordDeleted();
+                    } else {
+                        result.recordAlreadyGone();
+                    }
+                    outstanding.remove(entry);
+                    return;
+                }
+                lastError = "HTTP " + response.getStatusCode();
+                if (RateLimiter.instance().shouldRetry("DELETE", response.getStatusCode(), 1)) {
+                    break; // RateLimitFilter already retried this throttled response as often as configured
+                }
+            } catch (RuntimeException e) {
+                lastError = e.getClass().getSimpleName() + ": " + e.getMessage();
+            }
+        }
+        result.recordFailure(id, lastError);
+    }
+
+    private synchronized void appendToJournal(String line) {
+        try {
+            if (journalWriter == null) {
+                Files.createDirectories(journalDir);
+                journalWriter = Files.newBufferedWriter(journal, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            journalWriter.write(line);
+            journalWriter.newLine();
+            journalWriter.flush(); // Keep the journal complete even if the JVM is killed
+        } catch (IOException e) {
+            logger.warn("Failed to write to cleanup journal {}: {}", journal, e.getMessage());
+        }
+    }
+
+    private void closeJournal() {
+        if (journalWriter != null) {
+            try {
+                journalWriter.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close cleanup journal {}", journal, e);
+            }
+            journalWriter = null;
+        }
+    }
+
+    /**
+     * Replays a journal and returns the entries created but not deleted, in creation order.
+     */
+    private static Set<String> readJournal(FileChannel channel) throws IOException {
+        ByteBuffer content = ByteBuffer.allocate((int) channel.size());
+        while (content.hasRemaining() && channel.read(content, content.position()) >= 0) {
+            // Read the whole file
+        }
+        Set<String> entries = new LinkedHashSet<>();
+        for (String line : new String(content.array(), 0, content.position(), StandardCharsets.UTF_8).split("\\R")) {
+            if (line.startsWith("C ")) {
+                entries.add(line.substring(2));
+            } else if (line.startsWith("D ")) {
+                entries.remove(line.substring(2));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Writes a journal listing the given entries as created, or removes it when there are none.
+     */
+    private static void writeJournal(Path file, Set<String> remaining) throws IOException {
+        if (remaining.isEmpty()) {
+            Files.deleteIfExists(file);
+            return;
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.write(file, journalLines(remaining).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String journalLines(Set<String> entries) {
+        StringBuilder lines = new StringBuilder();
+        entries.forEach(entry -> lines.append("C ").append(entry).append(System.lineSeparator()));
+        return lines.toString();
+    }
+
+    private static boolean isJournal(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(JOURNAL_PREFIX) && name.endsWith(JOURNAL_SUFFIX);
+    }
+
+    /**
+     * Whether the process that wrote a journal is still running: a live process with the journal's PID
+     * and start time. A journal with an unexpected name is treated as finished.
+     */
+    private static boolean isRunning(Path file) {
+        String name = file.getFileName().toString();
+        String[] parts = name.substring(JOURNAL_PREFIX.length(), name.length() - JOURNAL_SUFFIX.length()).split("-");
+        if (parts.length != 2) {
+            return false;
+        }
+        try {
+            long pid = Long.parseLong(parts[0]);
+            long started = Long.parseLong(parts[1]);
+            return ProcessHandle.of(pid).filter(ProcessHandle::isAlive)
+                    .map(process -> started == 0 || startMillis(process) == 0 || startMillis(process) == started)
+                    .orElse(false);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Start time of a process in epoch milliseconds, or 0 where the platform does not report it.
+     * Together with the PID it tells a process apart from a later one that reuses its PID.
+     */
+    private static long startMillis(ProcessHandle process) {
+        return process.info().startInstant().map(Instant::toEpochMilli).orElse(0L);
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String entry(String baseUrl, String id) {
+        return baseUrl + " " + id;
+    }
+
+    private static String idOf(String entry) {
+        return entry.substring(entry.indexOf(' ') + 1);
+    }
+}
@@ -0,0 +1,57 @@
+// src/test/java/com/natwest/automation/cleanup/TeardownResult.java
+package com.natwest.automation.cleanup;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Outcome of deleting a batch of recorded objects.
+ */
+public class TeardownResult {
+
+    private final AtomicInteger deleted = new AtomicInteger();
+    private final AtomicInteger alreadyGone = new AtomicInteger();
+    private final Map<String, String> failures = new TreeMap<>(); // object ID -> last error
+
+    void recordDeleted() {
+        deleted.incrementAndGet();
+    }
+
+    void recordAlreadyGone() {
+        alreadyGone.incrementAndGet();
+    }
+
+    synchronized void recordFailure(String id, String reason) {
+        failures.put(id, reason);
+    }
+
+    /**
+     * Adds the counts and failures of another batch.
+     */
+    synchronized void add(TeardownResult other) {
+        deleted.addAndGet(other.getDeleted());
+        alreadyGone.addAndGet(other.getAlreadyGone());
+        failures.putAll(other.getFailures());
+    }
+
+    public int getDeleted() {
+        return deleted.get();
+    }
+
+    public int getAlreadyGone() {
+        return alreadyGone.get();
+    }
+
+    /**
+     * Objects that could not be deleted after every retry, with the last error seen for each.
+     */
+    public synchronized Map<String, String> getFailures() {
+        return new TreeMap<>(failures);
+    }
+
+    @Override
+    public String toString() {
+        return "deleted=" + getDeleted() + ", already gone=" + getAlreadyGone() + ", failed=" + getFailures().size();
+    }
+}
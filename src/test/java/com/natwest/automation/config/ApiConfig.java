@@ -0,0 +1,58 @@
+// src/test/java/com/natwest/automation/config/ApiConfig.java
+package com.natwest.automation.config;
+
+import com.natwest.automation.stub.ObjectsStubServer;
+
+/**
+ * Central place for resolving the API base URL.
+ * Starts the in-process stub server on the base URL's port when -Dstub.enabled=true.
+ */
+public final class ApiConfig {
+
+    public static final String BASE_URL_PROPERTY = "serenity.base.url";
+    public static final String DEFAULT_BASE_URL = "https://api.restful-api.dev";
+
+    private ApiConfig() {
+    }
+
+    /**
+     * Returns the configured base URL, starting the local stub first if it is enabled.
+     */
+    public static String baseUrl() {
+        String baseUrl = System.getProperty(BASE_URL_PROPERTY, DEFAULT_BASE_URL);
+        ObjectsStubServer.startIfEnabled(baseUrl);
+        return baseUrl;
+    }
+
+    /**
+     * Reads an integer system property, falling back to the default when absent or blank.
+     */
+    public static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    /**
+     * Reads a long system property, falling back to the default when absent or blank.
+     */
+    public static long longProperty(String name, long defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    /**
+     * Reads a double system property, falling back to the default when absent or blank.
+     */
+    public static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value.trim());
+    }
+
+    /**
+     * Reads a boolean system property, falling back to the default when absent or blank.
+     */
+    public static boolean booleanProperty(String name, boolean defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+}
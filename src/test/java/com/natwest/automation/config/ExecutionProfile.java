@@ -0,0 +1,45 @@
+// src/test/java/com/natwest/automation/config/ExecutionProfile.java
+package com.natwest.automation.config;
+
+import java.util.Locale;
+
+/**
+ * How much the suite records per request, selected once per JVM with -Dexecution.profile.
+ * <ul>
+ *   <li>report (default) - requests go through SerenityRest and every exchange, status check and timing
+ *   summary is attached to the Serenity report</li>
+ *   <li>perf - requests use plain RestAssured on the shared client, nothing is attached to the report, and
+ *   each exchange and scenario is appended to a compact results file instead (see ResultsFile)</li>
+ * </ul>
+ * Both profiles run the same feature files and step definitions.
+ */
+public enum ExecutionProfile {
+    REPORT,
+    PERF;
+
+    public static final String PROPERTY = "execution.profile";
+
+    private static final ExecutionProfile CURRENT = parse(System.getProperty(PROPERTY, "report"));
+
+    /**
+     * The profile of this JVM, read on first use.
+     */
+    public static ExecutionProfile current() {
+        return CURRENT;
+    }
+
+    /**
+     * True when per-request and per-step data should be attached to the Serenity report.
+     */
+    public static boolean recordsReportData() {
+        return CURRENT == REPORT;
+    }
+
+    static ExecutionProfile parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(PROPERTY + " must be 'report' or 'perf' but was '" + value + "'");
+        }
+    }
+}
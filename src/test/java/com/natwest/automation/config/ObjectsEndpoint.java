@@ -0,0 +1,103 @@
+// src/test/java/com/natwest/automation/config/ObjectsEndpoint.java
+package com.natwest.automation.config;
+
+/**
+ * The /objects endpoints exercised by the suite.
+ * Each endpoint has a path template used in reports and a short key used in configuration property names.
+ */
+public enum ObjectsEndpoint {
+
+    CREATE("POST", "/objects", "post"),
+    GET("GET", "/objects/{id}", "get"),
+    LIST("GET", "/objects", "list"),
+    DELETE("DELETE", "/objects/{id}", "delete");
+
+    private final String method;
+    private final String pathTemplate;
+    private final String key;
+
+    ObjectsEndpoint(String method, String pathTemplate, String key) {
+        this.method = method;
+        this.pathTemplate = pathTemplate;
+        this.key = key;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPathTemplate() {
+        return pathTemplate;
+    }
+
+    /**
+     * Short name used in property keys, e.g. "stub.get.latency.ms".
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Label used in logs and reports, e.g. "GET /objects/{id}".
+     */
+    public String label() {
+        return method + " " + pathTemplate;
+    }
+
+    /**
+     * Resolves a concrete request (e.g. "GET", "/objects/ff80...") to its endpoint.
+     * Query strings and trailing slashes are ignored; returns null for anything outside /objects.
+     */
+    public static ObjectsEndpoint resolve(String method, String path) {
+        if (method == null || path == null) {
+            return null;
+        }
+        String cleanPath = path;
+        int queryStart = cleanPath.indexOf('?');
+        if (queryStart >= 0) {
+            cleanPath = cleanPath.substring(0, queryStart);
+        }
+        while (cleanPath.length() > 1 && cleanPath.endsWith("/")) {
+            cleanPath = cleanPath.substring(0, cleanPath.length() - 1);
+        }
+        int objectsStart = cleanPath.indexOf("/objects");
+        if (objectsStart < 0) {
+            return null;
+        }
+        String rest = cleanPath.substring(objectsStart + "/objects".length());
+        String upperMethod = method.toUpperCase();
+        if (rest.isEmpty()) {
+            if ("POST".equals(upperMethod)) {
+                return CREATE;
+            }
+            return "GET".equals(upperMethod) ? LIST : null;
+        }
+        if (rest.charAt(0) != '/' || rest.indexOf('/', 1) >= 0) {
+            return null;
+        }
+        if ("GET".equals(upperMethod)) {
+            return GET;
+        }
+        return "DELETE".equals(upperMethod) ? DELETE : null;
+    }
+
+    /**
+     * Extracts the object ID from a concrete /objects/{id} path, or null if the path has no ID segment.
+     */
+    public static String idFromPath(String path) {
+        String cleanPath = path;
+        int queryStart = cleanPath.indexOf('?');
+        if (queryStart >= 0) {
+            cleanPath = cleanPath.substring(0, queryStart);
+        }
+        int objectsStart = cleanPath.indexOf("/objects/");
+        if (objectsStart < 0) {
+            return null;
+        }
+        String id = cleanPath.substring(objectsStart + "/objects/".length());
+        while (id.endsWith("/")) {
+            id = id.substring(0, id.length() - 1);
+        }
+        return id.isEmpty() ? null : id;
+    }
+}
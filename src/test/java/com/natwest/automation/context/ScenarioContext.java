@@ -0,0 +1,172 @@
+// src/test/java/com/natwest/automation/context/ScenarioContext.java
+package com.natwest.automation.context;
+
+import com.natwest.automation.async.AsyncResponse;
+import com.natwest.automation.bulk.BulkCreationResult;
+import com.natwest.automation.metrics.ScenarioTimings;
+import com.natwest.automation.model.ObjectData;
+import com.natwest.automation.stream.ListScanResult;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Holds the state shared between the steps of a single scenario.
+ * Each scenario thread gets its own instance, so scenarios running in parallel
+ * cannot see or overwrite each other's request, response or stored IDs.
+ */
+public class ScenarioContext {
+
+    private static final ThreadLocal<ScenarioContext> CURRENT = ThreadLocal.withInitial(ScenarioContext::new);
+
+    // State carried between the steps of one scenario
+    private RequestSpecification request;
+    private Response response;
+    private ObjectData objectPayload; // Holds the data for the object being created
+    private String createdObjectId; // Stores the ID of the object created in a scenario
+    private String baseUrl;
+    private String objectIdToDeleteOrGet; // Stores ID for specific GET/DELETE operations
+    private Histogram repeatedRequestLatencies; // Latencies (microseconds) of the last batch of repeated requests
+    private Map<Integer, Integer> repeatedRequestStatusCounts; // Responses in that batch per status code
+    private Set<String> expectedListIds = new HashSet<>(); // IDs a streamed list scan should look for
+    private ListScanResult listScanResult; // Outcome of the last streamed list scan
+    private BulkCreationResult bulkCreationResult; // Outcome of the last bulk creation from a payload stream
+    private List<String> concurrentlyCreatedIds = new ArrayList<>(); // IDs created by concurrent POST fan-outs
+    private List<AsyncResponse> concurrentResponses; // Responses of the last concurrent fan-out, in request order
+    private final ScenarioTimings scenarioTimings = new ScenarioTimings(); // Step and HTTP timings of this scenario
+
+    /**
+     * Returns the context of the scenario running on the current thread.
+     */
+    public static ScenarioContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Replaces the current thread's context with a fresh one at the start of a scenario.
+     */
+    public static void start() {
+        CURRENT.set(new ScenarioContext());
+    }
+
+    /**
+     * Drops the current thread's context once a scenario has finished.
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public RequestSpecification getRequest() {
+        return request;
+    }
+
+    public void setRequest(RequestSpecification request) {
+        this.request = request;
+    }
+
+    public Response getResponse() {
+        return response;
+    }
+
+    public void setResponse(Response response) {
+        this.response = response;
+    }
+
+    public ObjectData getObjectPayload() {
+        return objectPayload;
+    }
+
+    public void setObjectPayload(ObjectData objectPayload) {
+        this.objectPayload = objectPayload;
+    }
+
+    public String getCreatedObjectId() {
+        return createdObjectId;
+    }
+
+    public void setCreatedObjectId(String createdObjectId) {
+        this.createdObjectId = createdObjectId;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public String getObjectIdToDeleteOrGet() {
+        return objectIdToDeleteOrGet;
+    }
+
+    public void setObjectIdToDeleteOrGet(String objectIdToDeleteOrGet) {
+        this.objectIdToDeleteOrGet = objectIdToDeleteOrGet;
+    }
+
+    public Histogram getRepeatedRequestLatencies() {
+        return repeatedRequestLatencies;
+    }
+
+    public void setRepeatedRequestLatencies(Histogram repeatedRequestLatencies) {
+        this.repeatedRequestLatencies = repeatedRequestLatencies;
+    }
+
+    public Map<Integer, Integer> getRepeatedRequestStatusCounts() {
+        return repeatedRequestStatusCounts;
+    }
+
+    public void setRepeatedRequestStatusCounts(Map<Integer, Integer> repeatedRequestStatusCounts) {
+        this.repeatedRequestStatusCounts = repeatedRequestStatusCounts;
+    }
+
+    public Set<String> getExpectedListIds() {
+        return expectedListIds;
+    }
+
+    public void setExpectedListIds(Set<String> expectedListIds) {
+        this.expectedListIds = expectedListIds;
+    }
+
+    public ListScanResult getListScanResult() {
+        return listScanResult;
+    }
+
+    public void setListScanResult(ListScanResult listScanResult) {
+        this.listScanResult = listScanResult;
+    }
+
+    public BulkCreationResult getBulkCreationResult() {
+        return bulkCreationResult;
+    }
+
+    public void setBulkCreationResult(BulkCreationResult bulkCreationResult) {
+        this.bulkCreationResult = bulkCreationResult;
+    }
+
+    public List<String> getConcurrentlyCreatedIds() {
+        return concurrentlyCreatedIds;
+    }
+
+    public void setConcurrentlyCreatedIds(List<String> concurrentlyCreatedIds) {
+        this.concurrentlyCreatedIds = concurrentlyCreatedIds;
+    }
+
+    public List<AsyncResponse> getConcurrentResponses() {
+        return concurrentResponses;
+    }
+
+    public void setConcurrentResponses(List<AsyncResponse> concurrentResponses) {
+        this.concurrentResponses = concurrentResponses;
+    }
+
+    public ScenarioTimings getScenarioTimings() {
+        return scenarioTimings;
+    }
+}
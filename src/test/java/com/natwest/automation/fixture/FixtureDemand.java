@@ -0,0 +1,76 @@
+// src/test/java/com/natwest/automation/fixture/FixtureDemand.java
+package com.natwest.automation.fixture;
+
+import com.natwest.automation.utils.FeatureScenario;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The fixture objects a set of scenarios asks for, found by reading their fixture steps:
+ * shared fixture names, and how many exclusive fixtures of each name will be leased.
+ * <p>
+ * Scenarios come from FeatureFiles, which selects them as the run will (feature lines, tags and names), so a shard
+ * or a watch rerun only provisions for its own scenarios. A fixture step in a Background counts once for every
+ * scenario below it, and one in a Scenario Outline once for every selected Examples row, with its placeholders
+ * filled in.
+ */
+public class FixtureDemand {
+
+    private static final Pattern SHARED_STEP = Pattern.compile("a shared fixture object named \"([^\"]*)\"");
+    private static final Pattern EXCLUSIVE_STEP = Pattern.compile("an exclusive fixture object named \"([^\"]*)\"");
+
+    private final Set<String> sharedNames = new LinkedHashSet<>();
+    private final Map<String, Integer> exclusiveCounts = new LinkedHashMap<>();
+
+    /**
+     * The demand of the given scenarios.
+     */
+    public static FixtureDemand of(List<FeatureScenario> scenarios) {
+        FixtureDemand demand = new FixtureDemand();
+        scenarios.forEach(demand::add);
+        return demand;
+    }
+
+    /**
+     * Adds the fixture steps of one scenario.
+     */
+    public void add(FeatureScenario scenario) {
+        for (String step : scenario.getSteps()) {
+            Matcher shared = SHARED_STEP.matcher(step);
+            if (shared.matches()) {
+                sharedNames.add(shared.group(1));
+                continue;
+            }
+            Matcher exclusive = EXCLUSIVE_STEP.matcher(step);
+            if (exclusive.matches()) {
+                exclusiveCounts.merge(exclusive.group(1), 1, Integer::sum);
+            }
+        }
+    }
+
+    public Set<String> getSharedNames() {
+        return sharedNames;
+    }
+
+    public Map<String, Integer> getExclusiveCounts() {
+        return exclusiveCounts;
+    }
+
+    /**
+     * Total number of objects needed to satisfy this demand.
+     */
+    public int size() {
+        return sharedNames.size() + exclusiveCounts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Override
+    public String toString() {
+        return "shared=" + sharedNames + ", exclusive=" + exclusiveCounts;
+    }
+}
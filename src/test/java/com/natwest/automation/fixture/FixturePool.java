@@ -0,0 +1,186 @@
+// src/test/java/com/natwest/automation/fixture/FixturePool.java
+package com.natwest.automation.fixture;
+
+import com.natwest.automation.cleanup.CreatedObjectRegistry;
+import com.natwest.automation.config.ApiConfig;
+import com.natwest.automation.http.ApiClient;
+import com.natwest.automation.model.ObjectData;
+import com.natwest.automation.utils.ObjectDataEncoder;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Objects created up front for scenarios that only need an object to exist before the real test starts.
+ * <ul>
+ *   <li>Shared fixtures are created once per name and handed to every scenario that asks for them.
+ *   They must only be read, never changed or deleted.</li>
+ *   <li>Exclusive fixtures are handed to one scenario each, which is then free to delete them.</li>
+ * </ul>
+ * The pool is filled concurrently, in batches, when the suite starts. If it runs out (for example
+ * when the load runner repeats scenarios), or a fixture could not be created up front, the fixture is
+ * created at lease time instead.
+ * <ul>
+ *   <li>fixture.concurrency - parallel create requests while provisioning (default 8)</li>
+ *   <li>fixture.batch.size - create requests submitted per batch (default 32)</li>
+ * </ul>
+ */
+public final class FixturePool {
+
+    private static final Logger logger = LoggerFactory.getLogger(FixturePool.class);
+    // Fixtures only differ in name, so their bodies are rendered from one serialized payload
+    private static final ObjectDataEncoder.Template FIXTURE_TEMPLATE = ObjectDataEncoder.template(defaultPayload());
+    private static final FixturePool INSTANCE = new FixturePool();
+
+    private final Map<String, String> sharedIds = new ConcurrentHashMap<>();
+    private final Map<String, Queue<String>> exclusiveIds = new ConcurrentHashMap<>();
+    private volatile boolean provisioned;
+
+    private FixturePool() {
+    }
+
+    public static FixturePool instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Creates every fixture in the demand. Only the first call per JVM does anything,
+     * so repeated runs inside one JVM (such as the load runner) do not provision again.
+     */
+    public synchronized void provisionOnce(FixtureDemand demand) {
+        if (provisioned) {
+            return;
+        }
+        provisioned = true;
+        if (demand.size() == 0) {
+            return;
+        }
+        String baseUrl = ApiConfig.baseUrl();
+        List<String> names = new ArrayList<>();
+        List<Boolean> exclusive = new ArrayList<>();
+        for (String name : demand.getSharedNames()) {
+            names.add(name);
+            exclusive.add(false);
+        }
+        for (Map.Entry<String, Integer> entry : demand.getExclusiveCounts().entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                names.add(entry.getKey());
+                exclusive.add(true);
+            }
+        }
+
+        int batchSize = Math.max(1, ApiConfig.intProperty("fixture.batch.size", 32));
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, ApiConfig.intProperty("fixture.concurrency", 8)), runnable -> {
+            Thread thread = new Thread(runnable, "fixture-provisioner-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.nanoTime();
+        AtomicInteger failures = new AtomicInteger();
+        try {
+            for (int from = 0; from < names.size(); from += batchSize) {
+                List<CompletableFuture<Void>> batch = new ArrayList<>();
+                for (int i = from; i < Math.min(from + batchSize, names.size()); i++) {
+                    String name = names.get(i);
+                    boolean isExclusive = exclusive.get(i);
+                    batch.add(CompletableFuture.runAsync(() -> store(name, isExclusive, create(baseUrl, name)), executor)
+                            .exceptionally(e -> {
+                                // Not fatal: the scenario that leases this fixture creates it, and fails on its own if it cannot
+                                failures.incrementAndGet();
+                                logger.warn("Could not provision fixture object '{}': {}", name, e.getMessage());
+                                return null;
+                            }));
+                }
+                CompletableFuture.allOf(batch.toArray(new CompletableFuture[0])).join();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        logger.info("Provisioned {} of {} fixture objects ({}) in {} ms", names.size() - failures.get(), names.size(),
+                demand, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Returns the ID of the shared fixture with this name, creating it if the pool does not have one yet.
+     * The create request runs outside the map, so leases of other names never wait for it; if two scenarios
+     * create the same fixture at once, the first one stored wins and the other object is left to teardown.
+     */
+    public String leaseShared(String name) {
+        String id = sharedIds.get(name);
+        if (id != null) {
+            return id;
+        }
+        String created = create(ApiConfig.baseUrl(), name);
+        String existing = sharedIds.putIfAbsent(name, created);
+        return existing != null ? existing : created;
+    }
+
+    /**
+     * Takes an exclusive fixture with this name out of the pool, or creates one if none is left.
+     * The caller owns the object from now on.
+     */
+    public String leaseExclusive(String name) {
+        Queue<String> ready = exclusiveIds.get(name);
+        String id = ready == null ? null : ready.poll();
+        if (id != null) {
+            return id;
+        }
+        logger.debug("No pre-provisioned exclusive fixture '{}' left; creating one", name);
+        return create(ApiConfig.baseUrl(), name);
+    }
+
+    /**
+     * Forgets every fixture, for example after teardown has deleted them, so the next run provisions again.
+     */
+    public synchronized void reset() {
+        sharedIds.clear();
+        exclusiveIds.clear();
+        provisioned = false;
+    }
+
+    private void store(String name, boolean exclusive, String id) {
+        if (exclusive) {
+            exclusiveIds.computeIfAbsent(name, key -> new ConcurrentLinkedQueue<>()).add(id);
+        } else {
+            sharedIds.put(name, id);
+        }
+    }
+
+    private static ObjectData defaultPayload() {
+        ObjectData payload = new ObjectData();
+        ObjectData.Data data = new ObjectData.Data();
+        data.setCpuModel("Default CPU");
+        data.setPrice(99.99);
+        payload.setData(data);
+        return payload;
+    }
+
+    /**
+     * Creates one fixture object with the same default data the "a new object is created" step uses.
+     */
+    private static String create(String baseUrl, String name) {
+        Response response = ApiClient.plainGiven(baseUrl)
+                .body(FIXTURE_TEMPLATE.render(name, 99.99).bytes())
+                .when()
+                .post("/objects");
+        String id = response.getStatusCode() == 200 ? response.jsonPath().getString("id") : null;
+        if (id == null) {
+            throw new RuntimeException("Failed to create fixture object '" + name + "': HTTP "
+                    + response.getStatusCode() + " " + response.asString());
+        }
+        CreatedObjectRegistry.instance().register(baseUrl, id);
+        return id;
+    }
+}
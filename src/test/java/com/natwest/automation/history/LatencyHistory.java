@@ -0,0 +1,230 @@
+// src/test/java/com/natwest/automation/history/LatencyHistory.java
+package com.natwest.automation.history;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Latency figures of earlier runs, one entry per run with a LatencySample per scenario key and endpoint.
+ * The file is history.file (default build/latency-history/history.json, which git ignores; cache it between CI builds).
+ * Runs only count as history for runs with the same base URL and execution profile, so stub runs are never
+ * compared with runs against the real API. Forks that finish together each add their run: the file is re-read,
+ * merged and written under a lock on history.json.lock. Shards of a sharded run add one run between them
+ * (see LatencyParts).
+ */
+public class LatencyHistory {
+
+    private static final Logger logger = LoggerFactory.getLogger(LatencyHistory.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static LatencyHistory shared;
+
+    private final Path file;
+    private final List<Run> runs; // Oldest first
+
+    LatencyHistory(Path file, List<Run> runs) {
+        this.file = file;
+        this.runs = runs;
+    }
+
+    /**
+     * The history of this JVM, read from history.file on first use.
+     */
+    public static synchronized LatencyHistory shared() {
+        if (shared == null) {
+            shared = load(Paths.get(System.getProperty("history.file", "build/latency-history/history.json")));
+        }
+        return shared;
+    }
+
+    /**
+     * Reads a history file; a missing or unreadable file gives an empty history.
+     */
+    public static LatencyHistory load(Path file) {
+        return new LatencyHistory(file, readRuns(file));
+    }
+
+    private static List<Run> readRuns(Path file) {
+        List<Run> runs = new ArrayList<>();
+        if (Files.exists(file)) {
+            try {
+                for (JsonNode runNode : objectMapper.readTree(file.toFile()).path("runs")) {
+                    runs.add(Run.fromJson(runNode));
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Ignoring unreadable latency history {}: {}", file, e.getMessage());
+                runs.clear();
+            }
+        }
+        return runs;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * The last limit runs against the same base URL and profile that recorded the key, oldest first.
+     */
+    public synchronized List<Run> previous(String key, String baseUrl, String profile, int limit) {
+        List<Run> previous = new ArrayList<>();
+        for (int i = runs.size() - 1; i >= 0 && previous.size() < limit; i--) {
+            Run run = runs.get(i);
+            if (run.matches(baseUrl, profile) && run.latencies.containsKey(key)) {
+                previous.add(run);
+            }
+        }
+        Collections.reverse(previous);
+        return previous;
+    }
+
+    /**
+     * Adds a run, keeps only the last maxRuns runs of its base URL and profile, and writes the file. Holds a lock
+     * on the lock file next to it while doing so, and starts from the file as it is then, so that runs added by
+     * other JVMs since this one read it are kept.
+     */
+    public synchronized void append(Run run, int maxRuns) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path lockFile = file.resolveSibling(file.getFileName() + ".lock");
+        try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+            runs.clear();
+            runs.addAll(readRuns(file));
+            add(run, maxRuns);
+            save();
+        }
+    }
+
+    private void add(Run run, int maxRuns) {
+        runs.add(run);
+        long matching = runs.stream().filter(other -> other.matches(run.baseUrl, run.profile)).count();
+        for (Iterator<Run> iterator = runs.iterator(); iterator.hasNext() && matching > maxRuns; ) {
+            if (iterator.next().matches(run.baseUrl, run.profile)) {
+                iterator.remove();
+                matching--;
+            }
+        }
+    }
+
+    /**
+     * p50 and p95 of the given keys in the last runs runs, as a table for the Serenity report.
+     */
+    public synchronized String trendTable(Collection<String> keys, String baseUrl, String profile, int runs) {
+        StringBuilder out = new StringBuilder();
+        for (String key : keys) {
+            List<Run> previous = previous(key, baseUrl, profile, runs);
+            out.append(key).append(System.lineSeparator());
+            if (previous.isEmpty()) {
+                out.append("  no earlier runs").append(System.lineSeparator());
+                continue;
+            }
+            out.append(String.format(Locale.ROOT, "  %-28s %8s %9s %9s%n", "Run", "Count", "p50 ms", "p95 ms"));
+            for (Run run : previous) {
+                LatencySample sample = run.latencies.get(key);
+                out.append(String.format(Locale.ROOT, "  %-28s %8d %9.1f %9.1f%n", run.label, sample.getCount(),
+                        sample.getP50Millis(), sample.getP95Millis()));
+            }
+        }
+        return out.toString();
+    }
+
+    private void save() throws IOException {
+        ObjectNode root = objectMapper.createObjectNode();
+        ArrayNode runsNode = root.putArray("runs");
+        runs.forEach(run -> runsNode.add(run.toJson()));
+        Path directory = file.toAbsolutePath().getParent();
+        // Write next to the file and move it into place, so an interrupted run cannot leave half a history
+        Path temporary = Files.createTempFile(directory, "history", ".tmp");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(temporary.toFile(), root);
+        try {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * One run: when it ran, a label such as a commit (history.run.label), its target and its latencies by key.
+     */
+    public static class Run {
+
+        private final String timestamp;
+        private final String label;
+        private final String baseUrl;
+        private final String profile;
+        private final Map<String, LatencySample> latencies;
+
+        public Run(String timestamp, String label, String baseUrl, String profile, Map<String, LatencySample> latencies) {
+            this.timestamp = timestamp;
+            this.label = label;
+            this.baseUrl = baseUrl;
+            this.profile = profile;
+            this.latencies = latencies;
+        }
+
+        boolean matches(String otherBaseUrl, String otherProfile) {
+            return baseUrl.equals(otherBaseUrl) && profile.equals(otherProfile);
+        }
+
+        public String getTimestamp() {
+            return timestamp;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public LatencySample latency(String key) {
+            return latencies.get(key);
+        }
+
+        private ObjectNode toJson() {
+            ObjectNode runNode = objectMapper.createObjectNode();
+            runNode.put("timestamp", timestamp);
+            runNode.put("label", label);
+            runNode.put("baseUrl", baseUrl);
+            runNode.put("profile", profile);
+            ObjectNode latenciesNode = runNode.putObject("latencies");
+            latencies.forEach((key, sample) -> {
+                ObjectNode sampleNode = latenciesNode.putObject(key);
+                sampleNode.put("count", sample.getCount());
+                sampleNode.put("p50", sample.getP50Millis());
+                sampleNode.put("p95", sample.getP95Millis());
+            });
+            return runNode;
+        }
+
+        private static Run fromJson(JsonNode runNode) {
+            Map<String, LatencySample> latencies = new LinkedHashMap<>();
+            runNode.path("latencies").fields().forEachRemaining(entry -> {
+                JsonNode sampleNode = entry.getValue();
+                latencies.put(entry.getKey(), new LatencySample(sampleNode.path("count").asLong(),
+                        sampleNode.path("p50").asDouble(), sampleNode.path("p95").asDouble()));
+            });
+            return new Run(runNode.path("timestamp").asText(), runNode.path("label").asText(),
+                    runNode.path("baseUrl").asText(), runNode.path("profile").asText(), latencies);
+        }
+    }
+}
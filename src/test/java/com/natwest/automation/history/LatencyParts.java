@@ -0,0 +1,168 @@
+// src/test/java/com/natwest/automation/history/LatencyParts.java
+package com.natwest.automation.history;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+
+/**
+ * The latencies of one shard of a sharded run, kept until every shard has finished so that the run enters the
+ * history once, with percentiles over all of its requests, instead of once per shard with a part of them.
+ * Each shard writes shard-&lt;index&gt;-of-&lt;count&gt;.json to the parts directory, holding its compressed HdrHistograms by
+ * key; merge() adds them up. Parts from several nodes can be copied into one directory before merging.
+ */
+public final class LatencyParts {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String label;
+    private final String baseUrl;
+    private final String profile;
+    private final int shardCount;
+    private final Set<Integer> shards;
+    private final Map<String, Histogram> histograms;
+    private final List<Path> files;
+
+    private LatencyParts(String label, String baseUrl, String profile, int shardCount, Set<Integer> shards,
+                         Map<String, Histogram> histograms, List<Path> files) {
+        this.label = label;
+        this.baseUrl = baseUrl;
+        this.profile = profile;
+        this.shardCount = shardCount;
+        this.shards = shards;
+        this.histograms = histograms;
+        this.files = files;
+    }
+
+    /**
+     * Writes one shard's histograms to the parts directory and returns the file.
+     */
+    public static Path write(Path directory, int shardIndex, int shardCount, String label, String baseUrl, String profile,
+                             Map<String, Histogram> histograms) throws IOException {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("shardIndex", shardIndex);
+        root.put("shardCount", shardCount);
+        root.put("label", label);
+        root.put("baseUrl", baseUrl);
+        root.put("profile", profile);
+        ObjectNode encoded = root.putObject("histograms");
+        histograms.forEach((key, histogram) -> {
+            ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+            int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+            encoded.put(key, Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length)));
+        });
+        Files.createDirectories(directory);
+        Path file = directory.resolve("shard-" + shardIndex + "-of-" + shardCount + ".json");
+        objectMapper.writeValue(file.toFile(), root);
+        return file;
+    }
+
+    /**
+     * Adds up the parts in the directory, or returns null if there are none. Throws IllegalStateException if the
+     * parts are not of one run: different shard counts, base URLs or profiles, or a shard that appears twice.
+     * Missing shards are allowed, and listed by missingShards.
+     */
+    public static LatencyParts merge(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return null;
+        }
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(path -> path.getFileName().toString().matches("shard-\\d+-of-\\d+\\.json"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        if (files.isEmpty()) {
+            return null;
+        }
+        Map<String, Histogram> merged = new TreeMap<>();
+        Set<Integer> shards = new TreeSet<>();
+        JsonNode first = null;
+        for (Path file : files) {
+            JsonNode root = objectMapper.readTree(file.toFile());
+            if (first == null) {
+                first = root;
+            } else if (root.path("shardCount").asInt() != first.path("shardCount").asInt()
+                    || !root.path("baseUrl").asText().equals(first.path("baseUrl").asText())
+                    || !root.path("profile").asText().equals(first.path("profile").asText())) {
+                throw new IllegalStateException("Latency parts in " + directory + " are not of one run: " + files.get(0)
+                        + " and " + file + " differ in shard count, base URL or profile");
+            }
+            if (!shards.add(root.path("shardIndex").asInt())) {
+                throw new IllegalStateException("Shard " + root.path("shardIndex").asInt() + " has more than one latency part in "
+                        + directory + "; remove the parts of earlier runs");
+            }
+            Iterator<Map.Entry<String, JsonNode>> fields = root.path("histograms").fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                merged.computeIfAbsent(field.getKey(), key -> new Histogram(3)).add(decode(field.getValue().asText(), file));
+            }
+        }
+        return new LatencyParts(first.path("label").asText(), first.path("baseUrl").asText(), first.path("profile").asText(),
+                first.path("shardCount").asInt(), shards, merged, files);
+    }
+
+    private static Histogram decode(String encoded, Path file) {
+        try {
+            return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(Base64.getDecoder().decode(encoded)), 0);
+        } catch (DataFormatException | IllegalArgumentException e) {
+            throw new IllegalStateException("Unreadable histogram in latency part " + file, e);
+        }
+    }
+
+    /**
+     * Shard indexes of the run that wrote no part, e.g. because they failed or were not copied here.
+     */
+    public List<Integer> missingShards() {
+        List<Integer> missing = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (!shards.contains(shard)) {
+                missing.add(shard);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Deletes the merged part files, once the run has been recorded.
+     */
+    public void delete() throws IOException {
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public String getProfile() {
+        return profile;
+    }
+
+    public Map<String, Histogram> getHistograms() {
+        return histograms;
+    }
+}
@@ -0,0 +1,139 @@
+// src/test/java/com/natwest/automation/history/LatencyRegressions.java
+package com.natwest.automation.history;
+
+import com.natwest.automation.config.ApiConfig;
+import com.natwest.automation.config.ExecutionProfile;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * End-of-run comparison of the run's latencies with the latency history, followed by adding the run to it.
+ * <ul>
+ *   <li>history.file - history file (default build/latency-history/history.json)</li>
+ *   <li>history.trend.file - where the comparison table is written (default target/latency-history/trend.txt)</li>
+ *   <li>history.run.label - label of this run in the history, e.g. a commit (default the start time)</li>
+ *   <li>history.update - add this run to the history (default true; false compares without recording, e.g. on branches)</li>
+ *   <li>history.max.runs - runs kept per base URL and profile (default 30)</li>
+ *   <li>history.parts.dir - where the shards of a sharded run leave their latencies (default target/latency-history/parts)</li>
+ * </ul>
+ * The thresholds of the comparison itself are described in RegressionCheck.
+ */
+public final class LatencyRegressions {
+
+    private static final Logger logger = LoggerFactory.getLogger(LatencyRegressions.class);
+
+    private LatencyRegressions() {
+    }
+
+    /**
+     * The execution profile as stored in the history.
+     */
+    public static String profile() {
+        return ExecutionProfile.current().name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Compares this run with the history, writes and logs the comparison, records the run,
+     * and returns the keys that regressed. A shard of a sharded run (shard.count above 1) only writes its
+     * latencies to the parts directory and returns nothing; main() compares and records the whole run.
+     */
+    public static List<RegressionCheck.Result> checkAndRecord() {
+        int shardCount = ApiConfig.intProperty("shard.count", 1);
+        if (shardCount > 1) {
+            Map<String, Histogram> histograms = RunLatencies.histograms();
+            if (!histograms.isEmpty()) {
+                try {
+                    Path part = LatencyParts.write(partsDirectory(), ApiConfig.intProperty("shard.index", 0), shardCount,
+                            System.getProperty("history.run.label", ""), ApiConfig.baseUrl(), profile(), histograms);
+                    logger.info("Wrote this shard's latencies to {}; ./gradlew latencyHistory compares and records the whole run", part);
+                } catch (IOException e) {
+                    logger.warn("Failed to write this shard's latencies to {}: {}", partsDirectory(), e.getMessage());
+                }
+            }
+            return Collections.emptyList();
+        }
+        Map<String, LatencySample> current = RunLatencies.snapshot();
+        if (current.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return compareAndRecord(current, ApiConfig.baseUrl(), profile(), System.getProperty("history.run.label"));
+    }
+
+    /**
+     * Merges the latency parts of every shard of a sharded run into one run, compares it with the history and
+     * records it, then deletes the parts. Run with ./gradlew latencyHistory once all shards have finished, after
+     * copying the parts of every node into history.parts.dir. Throws IllegalStateException on a regression when
+     * history.fail.on.regression is true.
+     */
+    public static void main(String[] args) throws IOException {
+        LatencyParts parts = LatencyParts.merge(partsDirectory());
+        if (parts == null) {
+            System.out.println("No latency parts in " + partsDirectory() + "; nothing to record");
+            return;
+        }
+        if (!parts.missingShards().isEmpty()) {
+            logger.warn("No latency part from shards {}; recording the run without them", parts.missingShards());
+        }
+        String label = System.getProperty("history.run.label", parts.getLabel().isEmpty() ? null : parts.getLabel());
+        List<RegressionCheck.Result> regressions = compareAndRecord(RunLatencies.summarize(parts.getHistograms()),
+                parts.getBaseUrl(), parts.getProfile(), label);
+        parts.delete();
+        if (!regressions.isEmpty() && ApiConfig.booleanProperty("history.fail.on.regression", false)) {
+            throw new IllegalStateException("Latency regressed compared with earlier runs:" + System.lineSeparator()
+                    + regressions.stream().map(RegressionCheck.Result::toString).collect(Collectors.joining(System.lineSeparator())));
+        }
+    }
+
+    private static Path partsDirectory() {
+        return Paths.get(System.getProperty("history.parts.dir", "target/latency-history/parts"));
+    }
+
+    /**
+     * Compares a run with the history, writes and logs the comparison, records the run under the given label
+     * (the start time if null), and returns the keys that regressed.
+     */
+    private static List<RegressionCheck.Result> compareAndRecord(Map<String, LatencySample> current, String baseUrl,
+                                                                 String profile, String label) {
+        LatencyHistory history = LatencyHistory.shared();
+        List<RegressionCheck.Result> results = RegressionCheck.fromSystemProperties().compare(history, current, baseUrl, profile);
+        String table = RegressionCheck.format(results);
+        logger.info("Latency compared with {}:{}{}", history.getFile(), System.lineSeparator(), table);
+        Path trendFile = Paths.get(System.getProperty("history.trend.file", "target/latency-history/trend.txt"));
+        try {
+            Files.createDirectories(trendFile.toAbsolutePath().getParent());
+            Files.write(trendFile, table.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.warn("Failed to write latency trend to {}: {}", trendFile, e.getMessage());
+        }
+
+        List<RegressionCheck.Result> regressions = results.stream()
+                .filter(result -> result.getStatus() == RegressionCheck.Status.REGRESSED)
+                .collect(Collectors.toList());
+        regressions.forEach(result -> logger.warn("Latency regression: {}", result));
+
+        if (ApiConfig.booleanProperty("history.update", true)) {
+            String timestamp = Instant.now().truncatedTo(ChronoUnit.SECONDS).toString();
+            LatencyHistory.Run run = new LatencyHistory.Run(timestamp, label != null ? label : timestamp, baseUrl, profile, current);
+            try {
+                history.append(run, ApiConfig.intProperty("history.max.runs", 30));
+            } catch (IOException e) {
+                logger.warn("Failed to update latency history {}: {}", history.getFile(), e.getMessage());
+            }
+        }
+        return regressions;
+    }
+}
@@ -0,0 +1,42 @@
+// src/test/java/com/natwest/automation/history/LatencySample.java
+package com.natwest.automation.history;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency of one scenario or endpoint in one run: request or execution count, p50 and p95.
+ * Runs are compared through these per-run figures, so a run with thousands of requests does not outweigh runs
+ * with fewer (see RegressionCheck).
+ */
+public class LatencySample {
+
+    private final long count;
+    private final double p50Millis;
+    private final double p95Millis;
+
+    public LatencySample(long count, double p50Millis, double p95Millis) {
+        this.count = count;
+        this.p50Millis = p50Millis;
+        this.p95Millis = p95Millis;
+    }
+
+    /**
+     * Summarises a histogram of microsecond latencies.
+     */
+    public static LatencySample fromHistogram(Histogram latencyMicros) {
+        return new LatencySample(latencyMicros.getTotalCount(), latencyMicros.getValueAtPercentile(50) / 1000.0,
+                latencyMicros.getValueAtPercentile(95) / 1000.0);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public double getP95Millis() {
+        return p95Millis;
+    }
+}
@@ -0,0 +1,112 @@
+// src/test/java/com/natwest/automation/history/PredictionInterval.java
+package com.natwest.automation.history;
+
+/**
+ * One-sided test of whether a new run's value (e.g. its p95) is above what earlier runs predict.
+ * Each earlier run contributes one value, so the result depends on the number of runs, not on how many
+ * requests each run made. Values are compared on a log scale, where run-to-run latency varies by a similar
+ * factor at any level, and the new value is tested against a Student t prediction interval of the earlier ones.
+ */
+public final class PredictionInterval {
+
+    private static final double MIN_MILLIS = 0.001; // Keeps the logarithm finite for values rounded to zero
+
+    private PredictionInterval() {
+    }
+
+    /**
+     * Probability of a new run at least this far above the earlier runs if nothing changed. Small values mean
+     * the new run is significantly slower. Returns 1 with fewer than two earlier runs.
+     */
+    public static double pValueAbove(double[] previous, double current) {
+        int n = previous.length;
+        if (n < 2) {
+            return 1.0;
+        }
+        double mean = 0;
+        for (double value : previous) {
+            mean += Math.log(Math.max(MIN_MILLIS, value));
+        }
+        mean /= n;
+        double squares = 0;
+        for (double value : previous) {
+            double deviation = Math.log(Math.max(MIN_MILLIS, value)) - mean;
+            squares += deviation * deviation;
+        }
+        double standardDeviation = Math.sqrt(squares / (n - 1));
+        double difference = Math.log(Math.max(MIN_MILLIS, current)) - mean;
+        if (standardDeviation == 0) {
+            return difference > 0 ? 0.0 : 1.0; // Every earlier run had the same value
+        }
+        double t = difference / (standardDeviation * Math.sqrt(1 + 1.0 / n));
+        return upperTail(t, n - 1);
+    }
+
+    /**
+     * P(T &gt; t) for Student's t distribution with the given degrees of freedom.
+     */
+    static double upperTail(double t, int degreesOfFreedom) {
+        double tail = 0.5 * regularizedBeta(degreesOfFreedom / (degreesOfFreedom + t * t), degreesOfFreedom / 2.0, 0.5);
+        return t > 0 ? tail : 1 - tail;
+    }
+
+    /**
+     * Regularized incomplete beta function I_x(a, b) (Numerical Recipes' betai).
+     */
+    private static double regularizedBeta(double x, double a, double b) {
+        if (x <= 0) {
+            return 0;
+        }
+        if (x >= 1) {
+            return 1;
+        }
+        double front = Math.exp(logGamma(a + b) - logGamma(a) - logGamma(b) + a * Math.log(x) + b * Math.log(1 - x));
+        return x < (a + 1) / (a + b + 2)
+                ? front * betaContinuedFraction(x, a, b) / a
+                : 1 - front * betaContinuedFraction(1 - x, b, a) / b;
+    }
+
+    private static double betaContinuedFraction(double x, double a, double b) {
+        double tiny = 1e-300;
+        double c = 1;
+        double d = 1 - (a + b) * x / (a + 1);
+        d = 1 / (Math.abs(d) < tiny ? tiny : d);
+        double result = d;
+        for (int m = 1; m <= 200; m++) {
+            int m2 = 2 * m;
+            double even = m * (b - m) * x / ((a + m2 - 1) * (a + m2));
+            d = 1 / nonZero(1 + even * d, tiny);
+            c = nonZero(1 + even / c, tiny);
+            result *= d * c;
+            double odd = -(a + m) * (a + b + m) * x / ((a + m2) * (a + m2 + 1));
+            d = 1 / nonZero(1 + odd * d, tiny);
+            c = nonZero(1 + odd / c, tiny);
+            double step = d * c;
+            result *= step;
+            if (Math.abs(step - 1) < 1e-12) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private static double nonZero(double value, double tiny) {
+        return Math.abs(value) < tiny ? tiny : value;
+    }
+
+    /**
+     * Natural logarithm of the gamma function for positive arguments (Lanczos approximation).
+     */
+    private static double logGamma(double x) {
+        double[] coefficients = {76.18009172947146, -86.50532032941677, 24.01409824083091,
+                -1.231739572450155, 0.1208650973866179e-2, -0.5395239384953e-5};
+        double y = x;
+        double tmp = x + 5.5;
+        tmp -= (x + 0.5) * Math.log(tmp);
+        double series = 1.000000000190015;
+        for (double coefficient : coefficients) {
+            series += coefficient / ++y;
+        }
+        return -tmp + Math.log(2.5066282746310005 * series / x);
+    }
+}
@@ -0,0 +1,171 @@
+// src/test/java/com/natwest/automation/history/RegressionCheck.java
+package com.natwest.automation.history;
+
+import com.natwest.automation.config.ApiConfig;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the current run's latencies with the latency history, key by key.
+ * The baseline of a key is the p50 and p95 of each of its last history.baseline.runs runs (default 10), one value
+ * per run. A key has regressed when its p50 or p95 is above what those runs predict (see PredictionInterval) with a
+ * p-value below history.alpha (default 0.05, split between the two quantiles), and more than history.min.slowdown
+ * (default 0.10, i.e. 10%) above the median of the baseline runs. The second condition keeps differences that are
+ * statistically clear but too small to matter from being flagged. Keys with fewer than history.min.runs earlier
+ * runs (default 3) are only reported.
+ */
+public class RegressionCheck {
+
+    public enum Status {
+        REGRESSED, OK, NEW, FEW_RUNS
+    }
+
+    private final int baselineRuns;
+    private final int minRuns;
+    private final double alpha;
+    private final double minSlowdown;
+
+    public RegressionCheck(int baselineRuns, int minRuns, double alpha, double minSlowdown) {
+        this.baselineRuns = baselineRuns;
+        this.minRuns = Math.max(2, minRuns);
+        this.alpha = alpha;
+        this.minSlowdown = minSlowdown;
+    }
+
+    public static RegressionCheck fromSystemProperties() {
+        return new RegressionCheck(
+                ApiConfig.intProperty("history.baseline.runs", 10),
+                ApiConfig.intProperty("history.min.runs", 3),
+                ApiConfig.doubleProperty("history.alpha", 0.05),
+                ApiConfig.doubleProperty("history.min.slowdown", 0.10));
+    }
+
+    /**
+     * Compares every key of the current run with its baseline.
+     */
+    public List<Result> compare(LatencyHistory history, Map<String, LatencySample> current, String baseUrl, String profile) {
+        List<Result> results = new ArrayList<>();
+        for (Map.Entry<String, LatencySample> entry : current.entrySet()) {
+            List<LatencyHistory.Run> previous = history.previous(entry.getKey(), baseUrl, profile, baselineRuns);
+            results.add(compare(entry.getKey(), entry.getValue(), previous));
+        }
+        return results;
+    }
+
+    Result compare(String key, LatencySample current, List<LatencyHistory.Run> previous) {
+        List<Double> trend = previous.stream().map(run -> run.latency(key).getP95Millis()).collect(Collectors.toList());
+        if (previous.isEmpty()) {
+            return new Result(key, Status.NEW, current, Double.NaN, Double.NaN, Double.NaN, trend);
+        }
+        double[] p50s = previous.stream().mapToDouble(run -> run.latency(key).getP50Millis()).toArray();
+        double[] p95s = previous.stream().mapToDouble(run -> run.latency(key).getP95Millis()).toArray();
+        double baselineP50 = percentile(sorted(p50s), 50);
+        double baselineP95 = percentile(sorted(p95s), 50);
+        if (previous.size() < minRuns) {
+            return new Result(key, Status.FEW_RUNS, current, baselineP50, baselineP95, Double.NaN, trend);
+        }
+        double p50Value = PredictionInterval.pValueAbove(p50s, current.getP50Millis());
+        double p95Value = PredictionInterval.pValueAbove(p95s, current.getP95Millis());
+        boolean p50Regressed = p50Value < alpha / 2 && current.getP50Millis() > baselineP50 * (1 + minSlowdown);
+        boolean p95Regressed = p95Value < alpha / 2 && current.getP95Millis() > baselineP95 * (1 + minSlowdown);
+        double pValue = Math.min(1, 2 * Math.min(p50Value, p95Value)); // Bonferroni over the two quantiles
+        Status status = p50Regressed || p95Regressed ? Status.REGRESSED : Status.OK;
+        return new Result(key, status, current, baselineP50, baselineP95, pValue, trend);
+    }
+
+    private static double[] sorted(double[] values) {
+        double[] copy = values.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values; NaN when there are none.
+     */
+    static double percentile(double[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    /**
+     * Table of every key: baseline (median of earlier runs) and current p50/p95, p95 change, p-value, status and the p95 of the baseline runs.
+     */
+    public static String format(List<Result> results) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "%-56s %6s %9s %9s %9s %9s %8s %8s  %-11s %s%n", "Key", "Count",
+                "Base p50", "Base p95", "p50 ms", "p95 ms", "p95 chg", "p-value", "Status", "p95 trend (oldest first)"));
+        for (Result result : results) {
+            LatencySample current = result.current;
+            String trend = result.trend.stream().map(value -> String.format(Locale.ROOT, "%.1f", value))
+                    .collect(Collectors.joining(" "));
+            out.append(String.format(Locale.ROOT, "%-56s %6d %9s %9s %9.1f %9.1f %8s %8s  %-11s %s%n", result.key,
+                    current.getCount(), millis(result.baselineP50), millis(result.baselineP95),
+                    current.getP50Millis(), current.getP95Millis(), change(result.baselineP95, current.getP95Millis()),
+                    Double.isNaN(result.pValue) ? "-" : String.format(Locale.ROOT, "%.4f", result.pValue),
+                    result.status, trend.isEmpty() ? "-" : trend + " -> " + String.format(Locale.ROOT, "%.1f", current.getP95Millis())));
+        }
+        return out.toString();
+    }
+
+    private static String millis(double value) {
+        return Double.isNaN(value) ? "-" : String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static String change(double baseline, double current) {
+        if (Double.isNaN(baseline) || baseline <= 0) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%+.0f%%", (current / baseline - 1) * 100);
+    }
+
+    /**
+     * Outcome for one key.
+     */
+    public static class Result {
+
+        private final String key;
+        private final Status status;
+        private final LatencySample current;
+        private final double baselineP50;
+        private final double baselineP95;
+        private final double pValue;
+        private final List<Double> trend; // p95 of the baseline runs, oldest first
+
+        Result(String key, Status status, LatencySample current, double baselineP50, double baselineP95,
+               double pValue, List<Double> trend) {
+            this.key = key;
+            this.status = status;
+            this.current = current;
+            this.baselineP50 = baselineP50;
+            this.baselineP95 = baselineP95;
+            this.pValue = pValue;
+            this.trend = trend;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public double getPValue() {
+            return pValue;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%s: p50 %s -> %.1f ms, p95 %s -> %.1f ms (p=%.4f)", key,
+                    millis(baselineP50), current.getP50Millis(), millis(baselineP95), current.getP95Millis(), pValue);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+// src/test/java/com/natwest/automation/history/RunLatencies.java
+package com.natwest.automation.history;
+
+import com.natwest.automation.metrics.EndpointMetrics;
+import com.natwest.automation.metrics.EndpointStats;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencies of the current run under the keys the history uses: "scenario " plus the feature file and scenario name
+ * (e.g. "scenario features/objects_api.feature: Verify an existing object can be retrieved by ID") for passed
+ * scenarios, and "endpoint " plus the endpoint label (e.g. "endpoint GET /objects/{id}") for HTTP exchanges, which
+ * come from EndpointMetrics. The example rows of a Scenario Outline share the key of the outline unless its name
+ * has a placeholder.
+ */
+public final class RunLatencies {
+
+    public static final String SCENARIO_PREFIX = "scenario ";
+    public static final String ENDPOINT_PREFIX = "endpoint ";
+
+    private static final Map<String, Histogram> SCENARIOS = new ConcurrentHashMap<>();
+
+    private RunLatencies() {
+    }
+
+    /**
+     * History key of a scenario. The feature path starts at the "features/" directory, so runs from the
+     * file system and from the classpath share their keys.
+     */
+    public static String scenarioKey(URI featureUri, String name) {
+        String path = featureUri.getSchemeSpecificPart();
+        int features = path.lastIndexOf("features/");
+        return SCENARIO_PREFIX + (features >= 0 ? path.substring(features) : path) + ": " + name;
+    }
+
+    public static String endpointKey(String endpoint) {
+        return ENDPOINT_PREFIX + endpoint;
+    }
+
+    /**
+     * Records the duration of a passed scenario.
+     */
+    public static void recordScenario(URI featureUri, String name, long durationNanos) {
+        SCENARIOS.computeIfAbsent(scenarioKey(featureUri, name), key -> new ConcurrentHistogram(3))
+                .recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(durationNanos)));
+    }
+
+    /**
+     * Summary of every scenario key and endpoint recorded so far, sorted by key.
+     */
+    public static Map<String, LatencySample> snapshot() {
+        return summarize(histograms());
+    }
+
+    /**
+     * Copies of the microsecond histograms of every scenario key and endpoint recorded so far, sorted by key;
+     * shards hand these on so that their runs can be merged into one (see LatencyParts).
+     */
+    public static Map<String, Histogram> histograms() {
+        Map<String, Histogram> histograms = new TreeMap<>();
+        SCENARIOS.forEach((key, histogram) -> histograms.put(key, histogram.copy()));
+        for (EndpointStats stats : EndpointMetrics.all()) {
+            if (stats.getCount() > 0) {
+                histograms.put(endpointKey(stats.getEndpoint()), stats.histogramCopy());
+            }
+        }
+        return histograms;
+    }
+
+    /**
+     * p50 and p95 of each histogram, in the same key order.
+     */
+    public static Map<String, LatencySample> summarize(Map<String, Histogram> histograms) {
+        Map<String, LatencySample> samples = new TreeMap<>();
+        histograms.forEach((key, histogram) -> samples.put(key, LatencySample.fromHistogram(histogram)));
+        return samples;
+    }
+}
@@ -0,0 +1,130 @@
+// src/test/java/com/natwest/automation/http/ApiClient.java
+package com.natwest.automation.http;
+
+import com.natwest.automation.capture.HttpCaptureFilter;
+import com.natwest.automation.config.ApiConfig;
+import com.natwest.automation.config.ExecutionProfile;
+import com.natwest.automation.metrics.HttpPhaseTimer;
+import com.natwest.automation.metrics.TimingFilter;
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.specification.RequestSpecification;
+import net.serenitybdd.rest.SerenityRest;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Builds request specifications on one suite-wide HTTP client.
+ * RestAssured normally creates a client per request; here a single pooled client is reused, so
+ * keep-alive connections and TLS sessions carry over between requests and scenarios.
+ * <ul>
+ *   <li>http.pool.max.total - connections across all hosts (default 200)</li>
+ *   <li>http.pool.max.per.route - connections per host (default 50)</li>
+ *   <li>http.connect.timeout.ms - TCP connect timeout (default 10000)</li>
+ *   <li>http.socket.timeout.ms - read timeout (default 30000)</li>
+ *   <li>http.keepalive.ms - longest an idle connection is kept when the server sends no Keep-Alive header (default 30000)</li>
+ * </ul>
+ */
+public final class ApiClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiClient.class);
+    private static final TimingFilter TIMING_FILTER = new TimingFilter();
+    private static final RateLimitFilter RATE_LIMIT_FILTER = new RateLimitFilter();
+
+    private static volatile RestAssuredConfig config;
+
+    private ApiClient() {
+    }
+
+    /**
+     * Request specification recorded in the Serenity report, using the shared client.
+     * In the perf profile this is the same as plainGiven.
+     */
+    public static RequestSpecification given(String baseUrl) {
+        if (!ExecutionProfile.recordsReportData()) {
+            return plainGiven(baseUrl);
+        }
+        return withFilters(SerenityRest.given()
+                .config(config())
+                .baseUri(baseUrl)
+                .contentType("application/json"));
+    }
+
+    /**
+     * Request specification that is not recorded in the Serenity report, for bulk or repeated calls.
+     */
+    public static RequestSpecification plainGiven(String baseUrl) {
+        return withFilters(RestAssured.given()
+                .config(config())
+                .baseUri(baseUrl)
+                .contentType("application/json"));
+    }
+
+    /**
+     * Adds the timing and rate limit filters, and the record/replay filter when -Dcapture.mode is record or replay.
+     */
+    private static RequestSpecification withFilters(RequestSpecification request) {
+        request.filter(TIMING_FILTER).filter(RATE_LIMIT_FILTER);
+        HttpCaptureFilter capture = HttpCaptureFilter.active();
+        return capture == null ? request : request.filter(capture);
+    }
+
+    /**
+     * RestAssured configuration carrying the shared client, built on first use.
+     */
+    public static RestAssuredConfig config() {
+        RestAssuredConfig current = config;
+        if (current == null) {
+            synchronized (ApiClient.class) {
+                current = config;
+                if (current == null) {
+                    DefaultHttpClient client = createHttpClient();
+                    current = RestAssuredConfig.config().httpClient(HttpClientConfig.httpClientConfig()
+                            .reuseHttpClientInstance()
+                            .httpClientFactory(() -> client));
+                    config = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static DefaultHttpClient createHttpClient() {
+        SchemeRegistry schemes = new SchemeRegistry();
+        schemes.register(new Scheme("http", 80, TimedSocketFactory.wrap(PlainSocketFactory.getSocketFactory())));
+        // One SSL socket factory for every connection, so the JSSE session cache can resume TLS sessions
+        schemes.register(new Scheme("https", 443, TimedSocketFactory.wrap(SSLSocketFactory.getSocketFactory())));
+
+        PoolingClientConnectionManager connectionManager = new PoolingClientConnectionManager(schemes);
+        connectionManager.setMaxTotal(ApiConfig.intProperty("http.pool.max.total", 200));
+        connectionManager.setDefaultMaxPerRoute(ApiConfig.intProperty("http.pool.max.per.route", 50));
+
+        DefaultHttpClient client = new DefaultHttpClient(connectionManager);
+        HttpParams params = client.getParams();
+        HttpConnectionParams.setConnectionTimeout(params, ApiConfig.intProperty("http.connect.timeout.ms", 10_000));
+        HttpConnectionParams.setSoTimeout(params, ApiConfig.intProperty("http.socket.timeout.ms", 30_000));
+        HttpConnectionParams.setTcpNoDelay(params, true);
+
+        long keepAliveMillis = ApiConfig.longProperty("http.keepalive.ms", 30_000);
+        client.setKeepAliveStrategy((response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+        });
+        client.addRequestInterceptor(ConnectionMetrics.requestInterceptor());
+        client.addRequestInterceptor(HttpPhaseTimer.requestInterceptor());
+        client.addResponseInterceptor(HttpPhaseTimer.responseInterceptor());
+        logger.info("Shared HTTP client created: maxTotal={}, maxPerRoute={}, keepAlive={}ms",
+                connectionManager.getMaxTotal(), connectionManager.getDefaultMaxPerRoute(), keepAliveMillis);
+        return client;
+    }
+}
@@ -0,0 +1,76 @@
+// src/test/java/com/natwest/automation/http/ConnectionMetrics.java
+package com.natwest.automation.http;
+
+import org.apache.http.HttpConnection;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.protocol.ExecutionContext;
+import org.apache.http.protocol.HttpContext;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how many requests went over a newly opened connection versus a reused keep-alive one,
+ * and how long opening connections (TCP connect plus TLS handshake) took in total.
+ */
+public final class ConnectionMetrics {
+
+    private static final LongAdder opened = new LongAdder();
+    private static final LongAdder reused = new LongAdder();
+    private static final LongAdder connectNanos = new LongAdder();
+
+    private ConnectionMetrics() {
+    }
+
+    /**
+     * Request interceptor that classifies each request by the connection it is about to be sent on.
+     * Interceptors run before the request line is written, so a connection that has not sent
+     * any request yet was opened for this one.
+     */
+    public static HttpRequestInterceptor requestInterceptor() {
+        return (HttpRequest request, HttpContext context) -> {
+            HttpConnection connection = (HttpConnection) context.getAttribute(ExecutionContext.HTTP_CONNECTION);
+            if (connection == null) {
+                return;
+            }
+            if (connection.getMetrics().getRequestCount() == 0) {
+                opened.increment();
+            } else {
+                reused.increment();
+            }
+        };
+    }
+
+    /**
+     * Adds the time taken to open one connection.
+     */
+    static void recordConnect(long nanos) {
+        connectNanos.add(nanos);
+    }
+
+    public static long getOpened() {
+        return opened.sum();
+    }
+
+    public static long getReused() {
+        return reused.sum();
+    }
+
+    public static long getConnectMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(connectNanos.sum());
+    }
+
+    /**
+     * One-line summary, e.g. "requests=120, new connections=4, reused=116 (96.7%), connect time=210 ms (52.5 ms each)".
+     */
+    public static String summary() {
+        long openedCount = getOpened();
+        long reusedCount = getReused();
+        long total = openedCount + reusedCount;
+        return String.format(Locale.ROOT, "requests=%d, new connections=%d, reused=%d (%.1f%%), connect time=%d ms (%.1f ms each)",
+                total, openedCount, reusedCount, total == 0 ? 0.0 : reusedCount * 100.0 / total,
+                getConnectMillis(), openedCount == 0 ? 0.0 : (double) getConnectMillis() / openedCount);
+    }
+}
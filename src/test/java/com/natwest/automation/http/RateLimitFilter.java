@@ -0,0 +1,251 @@
+// src/test/java/com/natwest/automation/http/RateLimitFilter.java
+package com.natwest.automation.http;
+
+import com.natwest.automation.config.ObjectsEndpoint;
+import com.natwest.automation.metrics.HttpPhaseTimer;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import io.restassured.config.EncoderConfig;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.RequestSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * RestAssured filter that takes a token from the endpoint's bucket before each attempt, and retries
+ * throttled responses after the server's Retry-After or a jittered backoff (see RateLimiter).
+ * A Retry-After also pauses the bucket, so other threads do not keep hitting the quota in the meantime.
+ * <p>
+ * Runs as the very last filter, after TimingFilter, so that every attempt goes straight to the HTTP client.
+ * The rest of a RestAssured filter chain can only be run once, so a retry sends a new request built from the
+ * original one (method, encoded URI with its query parameters, headers, cookies, body, form parameters, multipart
+ * parts and config), without any filters. ./gradlew checkRateLimitRetry checks that retries match the original.
+ * The time spent waiting for a token or a backoff is reported to HttpPhaseTimer as wait, and the time of each
+ * throttled attempt as rejected, so that TimingFilter's latency covers only the attempt that was answered.
+ */
+public class RateLimitFilter implements OrderedFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+    // Methods for which RestAssured sends param(...) values as form parameters rather than in the query
+    private static final Set<String> PARAMS_IN_BODY = Set.of("POST", "PUT", "PATCH");
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        RateLimiter limiter = RateLimiter.instance();
+        String method = requestSpec.getMethod();
+        TokenBucket bucket = limiter.bucket(ObjectsEndpoint.resolve(method, URI.create(requestSpec.getURI()).getPath()));
+        try {
+            HttpPhaseTimer.recordWait(bucket.acquire());
+            long attemptStart = System.nanoTime();
+            Response response = ctx.next(requestSpec, responseSpec);
+            for (int attempt = 1; limiter.shouldRetry(method, response.getStatusCode(), attempt); attempt++) {
+                HttpPhaseTimer.recordRejectedAttempt(System.nanoTime() - attemptStart);
+                String retryAfter = response.getHeader("Retry-After");
+                long delayNanos = limiter.retryDelayNanos(retryAfter, attempt);
+                long retryAt = System.nanoTime() + delayNanos;
+                if (retryAfter != null) {
+                    bucket.pauseUntil(retryAt);
+                }
+                logger.info("{} {} returned {}; retry {} in {} ms", method, requestSpec.getUserDefinedPath(),
+                        response.getStatusCode(), attempt, delayNanos / 1_000_000);
+                HttpPhaseTimer.recordRetry();
+                long waitStart = System.nanoTime();
+                TokenBucket.sleepUntil(retryAt);
+                bucket.acquire();
+                HttpPhaseTimer.recordWait(System.nanoTime() - waitStart);
+                attemptStart = System.nanoTime();
+                response = resend(requestSpec);
+            }
+            return response;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting to send " + method + " " + requestSpec.getUserDefinedPath(), e);
+        }
+    }
+
+    /**
+     * Sends the request again on the same client. Global filters such as the load test pacer already ran for this
+     * exchange and are left out. URL encoding is off because getURI() is already encoded, so query and form
+     * parameters that it does not carry are encoded here; multipart parts are passed on as they are.
+     */
+    static Response resend(FilterableRequestSpecification requestSpec) {
+        RequestSpecification retry = RestAssured.given()
+                .noFilters()
+                .config(requestSpec.getConfig())
+                .urlEncodingEnabled(false)
+                .headers(requestSpec.getHeaders())
+                .cookies(requestSpec.getCookies());
+        if (requestSpec.getContentType() != null) {
+            retry.contentType(requestSpec.getContentType());
+        }
+        boolean paramsInBody = PARAMS_IN_BODY.contains(requestSpec.getMethod().toUpperCase(Locale.ROOT));
+        EncoderConfig encoding = requestSpec.getConfig().getEncoderConfig();
+        Object body = requestSpec.getBody();
+        if (body != null) {
+            retry.body(body);
+        } else {
+            Charset charset = formCharset(requestSpec.getContentType(), encoding);
+            StringJoiner form = new StringJoiner("&");
+            appendParams(form, requestSpec.getFormParams(), Set.of(), charset);
+            if (paramsInBody) {
+                appendParams(form, requestSpec.getRequestParams(), Set.of(), charset);
+            }
+            if (form.length() > 0) {
+                if (requestSpec.getContentType() == null) {
+                    retry.contentType("application/x-www-form-urlencoded; charset=" + charset.name());
+                }
+                retry.body(form.toString());
+            }
+        }
+        requestSpec.getMultiPartParams().forEach(retry::multiPart);
+        return retry.request(requestSpec.getMethod(),
+                uriWithParams(requestSpec, paramsInBody, Charset.forName(encoding.defaultQueryParameterCharset())));
+    }
+
+    /**
+     * getURI(), plus any query parameters, or for GET-like methods request parameters, that it does not include.
+     */
+    private static String uriWithParams(FilterableRequestSpecification requestSpec, boolean paramsInBody, Charset charset) {
+        String uri = requestSpec.getURI();
+        String query = URI.create(uri).getRawQuery();
+        Set<String> present = new HashSet<>();
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                present.add(URLDecoder.decode(pair.split("=", 2)[0], charset));
+            }
+        }
+        StringJoiner missing = new StringJoiner("&");
+        appendParams(missing, requestSpec.getQueryParams(), present, charset);
+        if (!paramsInBody) {
+            appendParams(missing, requestSpec.getRequestParams(), present, charset);
+        }
+        if (missing.length() == 0) {
+            return uri;
+        }
+        return uri + (query == null ? "?" : "&") + missing;
+    }
+
+    /**
+     * Charset of form parameters: the one in the content type, or RestAssured's default content charset.
+     */
+    private static Charset formCharset(String contentType, EncoderConfig encoding) {
+        if (contentType != null) {
+            for (String part : contentType.split(";")) {
+                String trimmed = part.trim();
+                if (trimmed.toLowerCase(Locale.ROOT).startsWith("charset=")) {
+                    return Charset.forName(trimmed.substring("charset=".length()).replace("\"", ""));
+                }
+            }
+        }
+        return Charset.forName(encoding.defaultContentCharset());
+    }
+
+    /**
+     * Adds "name=value" pairs, URL-encoded, for every value of the parameters not named in skip.
+     */
+    private static void appendParams(StringJoiner pairs, Map<String, ?> params, Set<String> skip, Charset charset) {
+        params.forEach((name, value) -> {
+            if (skip.contains(name)) {
+                return;
+            }
+            Collection<?> values = value instanceof Collection ? (Collection<?>) value : Collections.singletonList(value);
+            for (Object each : values) {
+                pairs.add(URLEncoder.encode(name, charset)
+                        + (each == null ? "" : "=" + URLEncoder.encode(String.valueOf(each), charset)));
+            }
+        });
+    }
+
+    /**
+     * Checks that a throttled request is retried exactly as it was first sent: against a local server that answers
+     * the first attempt of every request with 429 and Retry-After: 0, sends requests with a JSON body, query and
+     * request parameters, form parameters, multipart parts and path parameters, and compares the two attempts the
+     * server received. Run with ./gradlew checkRateLimitRetry; throws IllegalStateException on the first difference.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, List<String>> attempts = new ConcurrentHashMap<>(); // Check name -> attempts as received
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            String name = exchange.getRequestHeaders().getFirst("X-Check");
+            List<String> received = attempts.computeIfAbsent(name, key -> Collections.synchronizedList(new ArrayList<>()));
+            received.add(describe(exchange.getRequestMethod(), exchange.getRequestURI().getRawPath()
+                    + (exchange.getRequestURI().getRawQuery() == null ? "" : "?" + exchange.getRequestURI().getRawQuery()),
+                    exchange.getRequestHeaders().getFirst("Content-Type"), exchange.getRequestBody().readAllBytes()));
+            if (received.size() == 1) {
+                exchange.getResponseHeaders().add("Retry-After", "0");
+            }
+            exchange.sendResponseHeaders(received.size() == 1 ? 429 : 200, -1);
+            exchange.close();
+        });
+        server.start();
+        try {
+            String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+            Map<String, Function<RequestSpecification, Response>> checks = new LinkedHashMap<>();
+            checks.put("json body", request -> request.contentType("application/json").body("{\"name\":\"Pixel \u00e9\"}").post("/objects"));
+            checks.put("query and request params", request -> request.queryParam("id", "3", "5").param("page", "a b&c").get("/objects"));
+            checks.put("form params", request -> request.formParam("name", "a b&c").formParam("color", "\u00e9").post("/objects"));
+            checks.put("request params on post", request -> request.param("name", "x=y").post("/objects"));
+            checks.put("multipart", request -> request.multiPart("name", "Pixel").multiPart("data", "{\"year\":2019}").post("/objects"));
+            checks.put("path params", request -> request.delete("/objects/{id}", "a b"));
+            RateLimitFilter filter = new RateLimitFilter();
+            checks.forEach((name, send) -> {
+                Response response = send.apply(RestAssured.given().config(ApiClient.config()).baseUri(baseUrl)
+                        .filter(filter).header("X-Check", name));
+                List<String> received = attempts.getOrDefault(name, List.of());
+                if (response.getStatusCode() != 200 || received.size() != 2) {
+                    throw new IllegalStateException(name + ": expected a 429 and a retried 200, got status "
+                            + response.getStatusCode() + " after " + received.size() + " attempts");
+                }
+                if (!received.get(0).equals(received.get(1))) {
+                    throw new IllegalStateException(name + ": the retry differs from the original request:\n  original "
+                            + received.get(0) + "\n  retry    " + received.get(1));
+                }
+            });
+            System.out.println("RateLimitFilter retried " + checks.size() + " throttled requests unchanged");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    /**
+     * One received attempt as text, with the random multipart boundary replaced so that two attempts compare equal.
+     */
+    private static String describe(String method, String uri, String contentType, byte[] body) {
+        String text = method + " " + uri + " [" + contentType + "] " + new String(body, StandardCharsets.UTF_8);
+        int boundary = contentType == null ? -1 : contentType.indexOf("boundary=");
+        if (boundary < 0) {
+            return text;
+        }
+        String value = contentType.substring(boundary + "boundary=".length()).split(";")[0].replace("\"", "");
+        return text.replace(value, "BOUNDARY");
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,119 @@
+// src/test/java/com/natwest/automation/http/RateLimiter.java
+package com.natwest.automation.http;
+
+import com.natwest.automation.config.ApiConfig;
+import com.natwest.automation.config.ObjectsEndpoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side request quotas shared by the whole suite: one token bucket per endpoint, plus the retry
+ * policy for throttled responses. Every thread and both HTTP clients draw from the same buckets, so
+ * concurrent scenarios together stay within the limit instead of bursting into 429s.
+ * <ul>
+ *   <li>ratelimit.rps / ratelimit.&lt;endpoint&gt;.rps - requests per second, 0 for no limit (default 0)</li>
+ *   <li>ratelimit.burst / ratelimit.&lt;endpoint&gt;.burst - requests allowed back to back after an idle spell (default 1)</li>
+ *   <li>ratelimit.retries - retries after a 429, or a 503 for GET and DELETE (default 3)</li>
+ *   <li>ratelimit.retry.backoff.ms - base of the exponential backoff when there is no Retry-After (default 200)</li>
+ *   <li>ratelimit.retry.max.wait.ms - longest single wait before a retry, Retry-After included (default 60000)</li>
+ * </ul>
+ * Endpoint keys are those of ObjectsEndpoint: post, get, list and delete.
+ */
+public final class RateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimiter.class);
+    private static final RateLimiter INSTANCE = new RateLimiter();
+
+    private final Map<ObjectsEndpoint, TokenBucket> buckets = new EnumMap<>(ObjectsEndpoint.class);
+    private final TokenBucket otherRequests; // Anything outside /objects
+    private final int retries;
+    private final long backoffMillis;
+    private final long maxWaitMillis;
+
+    private RateLimiter() {
+        for (ObjectsEndpoint endpoint : ObjectsEndpoint.values()) {
+            buckets.put(endpoint, bucketFor("ratelimit." + endpoint.getKey() + "."));
+        }
+        otherRequests = bucketFor("ratelimit.");
+        retries = ApiConfig.intProperty("ratelimit.retries", 3);
+        backoffMillis = ApiConfig.longProperty("ratelimit.retry.backoff.ms", 200);
+        maxWaitMillis = ApiConfig.longProperty("ratelimit.retry.max.wait.ms", 60_000);
+        buckets.forEach((endpoint, bucket) -> {
+            if (bucket.isLimited()) {
+                logger.info("Rate limit for {}: {}", endpoint.label(), bucket);
+            }
+        });
+    }
+
+    public static RateLimiter instance() {
+        return INSTANCE;
+    }
+
+    private static TokenBucket bucketFor(String prefix) {
+        return new TokenBucket(ApiConfig.doubleProperty(prefix + "rps", ApiConfig.doubleProperty("ratelimit.rps", 0)),
+                ApiConfig.intProperty(prefix + "burst", ApiConfig.intProperty("ratelimit.burst", 1)));
+    }
+
+    /**
+     * The bucket for an endpoint; null stands for requests outside /objects.
+     */
+    public TokenBucket bucket(ObjectsEndpoint endpoint) {
+        return endpoint == null ? otherRequests : buckets.get(endpoint);
+    }
+
+    /**
+     * True if a response with this status should be retried on the given attempt (1 for the first retry).
+     * 429 means the request was refused before it was processed, so it is retried for every method; a 503
+     * may come after a POST was processed, so it is only retried for idempotent methods.
+     */
+    public boolean shouldRetry(String method, int statusCode, int attempt) {
+        if (attempt > retries) {
+            return false;
+        }
+        return statusCode == 429 || (statusCode == 503 && !"POST".equalsIgnoreCase(method));
+    }
+
+    /**
+     * How long to wait before the given retry: the server's Retry-After if it sent one, otherwise
+     * exponential backoff with full jitter, i.e. a random time up to backoff * 2^(attempt - 1).
+     */
+    public long retryDelayNanos(String retryAfter, int attempt) {
+        long millis = parseRetryAfterMillis(retryAfter);
+        if (millis < 0) {
+            long ceiling = Math.min(maxWaitMillis, backoffMillis << Math.min(attempt - 1, 20));
+            millis = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        }
+        return TimeUnit.MILLISECONDS.toNanos(Math.min(millis, maxWaitMillis));
+    }
+
+    /**
+     * Retry-After as milliseconds from now: either delay-seconds or an HTTP date. -1 if absent or unreadable.
+     */
+    static long parseRetryAfterMillis(String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return -1;
+        }
+        String value = retryAfter.trim();
+        try {
+            return TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException e) {
+            // Not delay-seconds; try an HTTP date below
+        }
+        try {
+            ZonedDateTime until = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(until.getZone()), until).toMillis());
+        } catch (DateTimeParseException e) {
+            logger.debug("Ignoring unreadable Retry-After header '{}'", value);
+            return -1;
+        }
+    }
+}
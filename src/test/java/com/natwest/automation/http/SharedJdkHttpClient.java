@@ -0,0 +1,40 @@
+// src/test/java/com/natwest/automation/http/SharedJdkHttpClient.java
+package com.natwest.automation.http;
+
+import com.natwest.automation.config.ApiConfig;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * One java.net.http client for the whole suite, used where RestAssured's fully buffered
+ * responses do not fit (streaming large bodies). Sharing it keeps connections alive between calls.
+ */
+public final class SharedJdkHttpClient {
+
+    private static volatile HttpClient client;
+
+    private SharedJdkHttpClient() {
+    }
+
+    /**
+     * Returns the shared client, building it on first use.
+     */
+    public static HttpClient get() {
+        HttpClient current = client;
+        if (current == null) {
+            synchronized (SharedJdkHttpClient.class) {
+                current = client;
+                if (current == null) {
+                    current = HttpClient.newBuilder()
+                            .version(HttpClient.Version.HTTP_1_1)
+                            .connectTimeout(Duration.ofMillis(ApiConfig.longProperty("http.connect.timeout.ms", 10_000)))
+                            .followRedirects(HttpClient.Redirect.NORMAL)
+                            .build();
+                    client = current;
+                }
+            }
+        }
+        return current;
+    }
+}
@@ -0,0 +1,76 @@
+// src/test/java/com/natwest/automation/http/TimedSocketFactory.java
+package com.natwest.automation.http;
+
+import com.natwest.automation.metrics.HttpPhaseTimer;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.scheme.SchemeLayeredSocketFactory;
+import org.apache.http.conn.scheme.SchemeSocketFactory;
+import org.apache.http.params.HttpParams;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.UnknownHostException;
+
+/**
+ * Socket factory wrapper that times every new connection, including the TLS handshake for https,
+ * and reports it to ConnectionMetrics and to the phases of the exchange that needed it.
+ */
+class TimedSocketFactory implements SchemeSocketFactory {
+
+    private final SchemeSocketFactory delegate;
+
+    TimedSocketFactory(SchemeSocketFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Wraps the factory, keeping layered (TLS) factories layered.
+     */
+    static SchemeSocketFactory wrap(SchemeSocketFactory delegate) {
+        return delegate instanceof SchemeLayeredSocketFactory
+                ? new Layered((SchemeLayeredSocketFactory) delegate)
+                : new TimedSocketFactory(delegate);
+    }
+
+    @Override
+    public Socket createSocket(HttpParams params) throws IOException {
+        return delegate.createSocket(params);
+    }
+
+    @Override
+    public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress, InetSocketAddress localAddress, HttpParams params)
+            throws IOException, UnknownHostException, ConnectTimeoutException {
+        long start = System.nanoTime();
+        try {
+            return delegate.connectSocket(socket, remoteAddress, localAddress, params);
+        } finally {
+            long duration = System.nanoTime() - start;
+            ConnectionMetrics.recordConnect(duration);
+            HttpPhaseTimer.recordConnect(duration);
+        }
+    }
+
+    @Override
+    public boolean isSecure(Socket socket) throws IllegalArgumentException {
+        return delegate.isSecure(socket);
+    }
+
+    /**
+     * Variant for TLS factories, which must also support layering over a proxy tunnel.
+     */
+    private static final class Layered extends TimedSocketFactory implements SchemeLayeredSocketFactory {
+        private final SchemeLayeredSocketFactory layeredDelegate;
+
+        Layered(SchemeLayeredSocketFactory delegate) {
+            super(delegate);
+            this.layeredDelegate = delegate;
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpParams params)
+                throws IOException, UnknownHostException {
+            return layeredDelegate.createLayeredSocket(socket, target, port, params);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+// src/test/java/com/natwest/automation/http/TokenBucket.java
+package com.natwest.automation.http;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Token bucket shared by every thread that calls one endpoint, in its lock-free "virtual scheduling" form:
+ * instead of counting tokens, it keeps the time at which the bucket will next be empty, and each request
+ * moves that time on by one interval. A request that finds the bucket empty is told how long to wait.
+ * A rate of 0 means no limit; the bucket is then only used to hold everyone back after a Retry-After.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos; // Time to earn one token
+    private final long burstNanos; // How far ahead of the clock the schedule may run: (burst - 1) intervals
+    private final AtomicLong emptyAt = new AtomicLong(System.nanoTime()); // Theoretical time the bucket is empty
+
+    public TokenBucket(double requestsPerSecond, int burst) {
+        this.intervalNanos = requestsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond) : 0;
+        this.burstNanos = intervalNanos * Math.max(0, burst - 1);
+    }
+
+    /**
+     * Takes one token, waiting until it is available, and returns how long the caller waited in nanoseconds.
+     */
+    public long acquire() throws InterruptedException {
+        long now = System.nanoTime();
+        long startAt;
+        while (true) {
+            long empty = emptyAt.get();
+            startAt = Math.max(now, empty - burstNanos);
+            if (emptyAt.compareAndSet(empty, Math.max(empty, now) + intervalNanos)) {
+                break;
+            }
+            now = System.nanoTime();
+        }
+        return sleepUntil(startAt) - now;
+    }
+
+    /**
+     * Holds back every request on this bucket until the given System.nanoTime(), e.g. after a Retry-After.
+     */
+    public void pauseUntil(long nanoTime) {
+        emptyAt.accumulateAndGet(nanoTime + burstNanos, Math::max);
+    }
+
+    public boolean isLimited() {
+        return intervalNanos > 0;
+    }
+
+    /**
+     * Sleeps until the given System.nanoTime() and returns the time it woke up.
+     */
+    static long sleepUntil(long nanoTime) throws InterruptedException {
+        long now = System.nanoTime();
+        while (now < nanoTime) {
+            LockSupport.parkNanos(nanoTime - now);
+            if (Thread.interrupted()) {
+                throw new InterruptedException("Interrupted while waiting for a rate limit token");
+            }
+            now = System.nanoTime();
+        }
+        return now;
+    }
+
+    @Override
+    public String toString() {
+        return isLimited()
+                ? String.format("%.1f req/s, burst %d", TimeUnit.SECONDS.toNanos(1) / (double) intervalNanos, burstNanos / intervalNanos + 1)
+                : "unlimited";
+    }
+}
@@ -0,0 +1,106 @@
+// src/test/java/com/natwest/automation/load/LoadConfig.java
+package com.natwest.automation.load;
+
+import com.natwest.automation.config.ApiConfig;
+
+/**
+ * Settings for a load run, read from system properties.
+ * <ul>
+ *   <li>load.users - number of virtual users, each replaying the selected scenarios in a loop (default 10)</li>
+ *   <li>load.rate - target requests per second across all users; 0 lets users run flat out (default 0)</li>
+ *   <li>load.rate.max.catchup - request starts a paced run may send back to back after falling behind its
+ *       schedule, e.g. during slow responses or a GC pause; older missed starts are dropped (default 10)</li>
+ *   <li>load.duration.seconds - how long to keep starting new iterations (default 60)</li>
+ *   <li>load.warmup.seconds - initial period whose measurements are discarded (default 0)</li>
+ *   <li>load.tags - Cucumber tag expression choosing the scenarios to replay</li>
+ *   <li>load.features - feature path(s) passed to Cucumber (default classpath:features)</li>
+ *   <li>load.max.error.rate - fail the run if any endpoint's error rate is above this (default 1.0, never fail)</li>
+ * </ul>
+ */
+public class LoadConfig {
+
+    public static final String DEFAULT_TAGS = "@PostObject or @GetObject or @DeleteObject";
+
+    private final int users;
+    private final double requestsPerSecond;
+    private final int maxCatchUp;
+    private final long durationSeconds;
+    private final long warmupSeconds;
+    private final String tags;
+    private final String features;
+    private final double maxErrorRate;
+
+    public LoadConfig(int users, double requestsPerSecond, int maxCatchUp, long durationSeconds, long warmupSeconds,
+                      String tags, String features, double maxErrorRate) {
+        if (users < 1) {
+            throw new IllegalArgumentException("load.users must be at least 1 but was " + users);
+        }
+        if (durationSeconds < 1) {
+            throw new IllegalArgumentException("load.duration.seconds must be at least 1 but was " + durationSeconds);
+        }
+        this.users = users;
+        this.requestsPerSecond = requestsPerSecond;
+        this.maxCatchUp = maxCatchUp;
+        this.durationSeconds = durationSeconds;
+        this.warmupSeconds = warmupSeconds;
+        this.tags = tags;
+        this.features = features;
+        this.maxErrorRate = maxErrorRate;
+    }
+
+    /**
+     * Builds the configuration from system properties.
+     */
+    public static LoadConfig fromSystemProperties() {
+        return new LoadConfig(
+                ApiConfig.intProperty("load.users", 10),
+                ApiConfig.doubleProperty("load.rate", 0),
+                ApiConfig.intProperty("load.rate.max.catchup", 10),
+                ApiConfig.longProperty("load.duration.seconds", 60),
+                ApiConfig.longProperty("load.warmup.seconds", 0),
+                System.getProperty("load.tags", DEFAULT_TAGS),
+                System.getProperty("load.features", "classpath:features"),
+                ApiConfig.doubleProperty("load.max.error.rate", 1.0));
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    public int getMaxCatchUp() {
+        return maxCatchUp;
+    }
+
+    public long getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public long getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public String getTags() {
+        return tags;
+    }
+
+    public String getFeatures() {
+        return features;
+    }
+
+    public double getMaxErrorRate() {
+        return maxErrorRate;
+    }
+
+    @Override
+    public String toString() {
+        return "users=" + users
+                + ", rate=" + (requestsPerSecond > 0 ? requestsPerSecond + " req/s" : "unpaced")
+                + ", duration=" + durationSeconds + "s"
+                + ", warmup=" + warmupSeconds + "s"
+                + ", tags='" + tags + "'";
+    }
+}
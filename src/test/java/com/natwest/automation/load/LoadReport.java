@@ -0,0 +1,144 @@
+// src/test/java/com/natwest/automation/load/LoadReport.java
+package com.natwest.automation.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.natwest.automation.metrics.EndpointStats;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Summary of a load run: throughput, error rate and latency percentiles per endpoint,
+ * plus passed/failed executions per scenario. Printed to the console and written as JSON.
+ * <p>
+ * Every iteration of a virtual user is a new Cucumber run, whose start-up sends no requests. Next to the
+ * wall-clock throughput ("Req/s") the report therefore gives the throughput over the time users spent inside
+ * scenarios ("Busy r/s"), and the share of the run that was scenario time.
+ */
+public class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99};
+
+    private final LoadConfig config;
+    private final List<EndpointStats> endpoints;
+    private final double elapsedSeconds;
+
+    public LoadReport(LoadConfig config, List<EndpointStats> endpoints, double elapsedSeconds) {
+        this.config = config;
+        this.endpoints = endpoints;
+        this.elapsedSeconds = elapsedSeconds;
+    }
+
+    /**
+     * Prints the endpoint and scenario tables.
+     */
+    public void print(PrintStream out) {
+        out.println();
+        out.printf(Locale.ROOT, "Load run: %s, measured for %.1fs, %.0f%% of it inside scenarios%n", config,
+                elapsedSeconds, busyFraction() * 100);
+        out.printf(Locale.ROOT, "%-24s %9s %9s %9s %8s %8s %9s %9s %9s %9s %9s%n", "Endpoint", "Requests", "Req/s",
+                "Busy r/s", "Errors", "Err %", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms");
+        for (EndpointStats stats : endpoints) {
+            out.printf(Locale.ROOT, "%-24s %9d %9.1f %9.1f %8d %8.2f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    stats.getEndpoint(), stats.getCount(), throughput(stats), busyThroughput(stats),
+                    stats.getErrors(), stats.getErrorRate() * 100,
+                    stats.percentileMillis(50), stats.percentileMillis(90), stats.percentileMillis(95),
+                    stats.percentileMillis(99), stats.maxMillis());
+        }
+        out.println();
+        out.printf(Locale.ROOT, "%-70s %9s %9s%n", "Scenario", "Passed", "Failed");
+        for (String scenario : scenarioNames()) {
+            out.printf(Locale.ROOT, "%-70s %9d %9d%n", scenario,
+                    count(ScenarioOutcomes.passed(), scenario), count(ScenarioOutcomes.failed(), scenario));
+        }
+    }
+
+    /**
+     * Writes the same figures as JSON, creating parent directories as needed.
+     */
+    public void write(Path file) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("users", config.getUsers());
+        root.put("targetRequestsPerSecond", config.getRequestsPerSecond());
+        root.put("tags", config.getTags());
+        root.put("elapsedSeconds", elapsedSeconds);
+        root.put("scenarioSeconds", ScenarioOutcomes.scenarioSeconds());
+        root.put("busyFraction", busyFraction());
+        ArrayNode endpointsNode = root.putArray("endpoints");
+        for (EndpointStats stats : endpoints) {
+            ObjectNode endpointNode = endpointsNode.addObject();
+            endpointNode.put("endpoint", stats.getEndpoint());
+            endpointNode.put("requests", stats.getCount());
+            endpointNode.put("requestsPerSecond", throughput(stats));
+            endpointNode.put("requestsPerBusySecond", busyThroughput(stats));
+            endpointNode.put("errors", stats.getErrors());
+            endpointNode.put("errorRate", stats.getErrorRate());
+            endpointNode.put("retries", stats.getRetries());
+            endpointNode.put("rateLimitWaitMillis", stats.waitMillis());
+            ObjectNode latency = endpointNode.putObject("latencyMillis");
+            for (double percentile : PERCENTILES) {
+                latency.put("p" + (int) percentile, stats.percentileMillis(percentile));
+            }
+            latency.put("mean", stats.meanMillis());
+            latency.put("max", stats.maxMillis());
+        }
+        ArrayNode scenariosNode = root.putArray("scenarios");
+        for (String scenario : scenarioNames()) {
+            scenariosNode.addObject()
+                    .put("name", scenario)
+                    .put("passed", count(ScenarioOutcomes.passed(), scenario))
+                    .put("failed", count(ScenarioOutcomes.failed(), scenario));
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        objectMapper.writeValue(file.toFile(), root);
+    }
+
+    /**
+     * True if every endpoint stayed within the configured maximum error rate.
+     */
+    public boolean withinErrorBudget() {
+        return endpoints.stream().allMatch(stats -> stats.getErrorRate() <= config.getMaxErrorRate());
+    }
+
+    private double throughput(EndpointStats stats) {
+        return elapsedSeconds > 0 ? stats.getCount() / elapsedSeconds : 0.0;
+    }
+
+    /**
+     * Share of the users' measured time that was spent executing scenarios.
+     */
+    private double busyFraction() {
+        double userSeconds = elapsedSeconds * config.getUsers();
+        return userSeconds > 0 ? Math.min(1.0, ScenarioOutcomes.scenarioSeconds() / userSeconds) : 0.0;
+    }
+
+    /**
+     * Throughput had the users spent all their time inside scenarios.
+     */
+    private double busyThroughput(EndpointStats stats) {
+        double busySeconds = ScenarioOutcomes.scenarioSeconds() / config.getUsers();
+        return busySeconds > 0 ? stats.getCount() / busySeconds : 0.0;
+    }
+
+    private static TreeSet<String> scenarioNames() {
+        TreeSet<String> names = new TreeSet<>(ScenarioOutcomes.passed().keySet());
+        names.addAll(ScenarioOutcomes.failed().keySet());
+        return names;
+    }
+
+    private static long count(Map<String, LongAdder> outcomes, String scenario) {
+        LongAdder adder = outcomes.get(scenario);
+        return adder == null ? 0 : adder.sum();
+    }
+}
@@ -0,0 +1,185 @@
+// src/test/java/com/natwest/automation/load/LoadRunner.java
+package com.natwest.automation.load;
+
+import com.natwest.automation.cleanup.CreatedObjectRegistry;
+import com.natwest.automation.config.ApiConfig;
+import com.natwest.automation.config.ExecutionProfile;
+import com.natwest.automation.fixture.FixtureDemand;
+import com.natwest.automation.fixture.FixturePool;
+import com.natwest.automation.http.ConnectionMetrics;
+import com.natwest.automation.metrics.EndpointMetrics;
+import com.natwest.automation.metrics.MetricsExporter;
+import com.natwest.automation.metrics.OperationMetrics;
+import com.natwest.automation.metrics.RunMetricsPlugin;
+import com.natwest.automation.utils.FeatureFiles;
+import com.natwest.automation.utils.JsonUtils;
+import io.cucumber.core.cli.Main;
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the existing Gherkin scenarios as a load test.
+ * Every virtual user is a thread that replays the scenarios matching load.tags through the Cucumber
+ * runtime until the duration is up, so the step definitions in ObjectApiSteps remain the only
+ * description of the workflow. HTTP timings are captured by the TimingFilter on every ApiClient request.
+ * <p>
+ * Run with: ./gradlew loadTest -Dload.users=20 -Dload.duration.seconds=120
+ */
+public class LoadRunner {
+
+    private final LoadConfig config;
+    private final AtomicLong iterations = new AtomicLong();
+    private final AtomicLong failedIterations = new AtomicLong();
+
+    public LoadRunner(LoadConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        boolean teardown = prepareForLoad();
+        int exitCode = new LoadRunner(LoadConfig.fromSystemProperties()).run();
+        if (teardown) {
+            deleteCreatedObjects();
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * Sets the system property defaults of a run with many users, and returns whether the objects it creates
+     * should be deleted once it is over.
+     */
+    public static boolean prepareForLoad() {
+        if (System.getProperty(ExecutionProfile.PROPERTY) == null) {
+            System.setProperty(ExecutionProfile.PROPERTY, "perf"); // No per-request report capture under load
+        }
+        if (System.getProperty("log.body.sample.rate") == null) {
+            System.setProperty("log.body.sample.rate", "0.01"); // Only log 1% of bodies under load
+        }
+        // Virtual users must not delete objects that other users are still working with; clean up once at the end
+        boolean teardown = ApiConfig.booleanProperty("cleanup.teardown.enabled", true);
+        System.setProperty("cleanup.teardown.enabled", "false");
+        // Every Cucumber run would export its metrics; export the measured window once instead
+        System.setProperty("metrics.export.enabled", "false");
+        // Each iteration is one short Cucumber run; it must not be compared with or added to the latency history
+        System.setProperty("history.enabled", "false");
+        // Each iteration still builds a Cucumber runtime, but skips the suite-wide hooks: orphan cleanup and
+        // fixture provisioning run once in run(), connection reuse is reported once, and teardown happens at the end
+        System.setProperty("hooks.suite.enabled", "false");
+        return teardown;
+    }
+
+    /**
+     * Deletes every object the run created and that is still outstanding.
+     */
+    public static void deleteCreatedObjects() {
+        System.out.println("Teardown of created objects: " + CreatedObjectRegistry.instance().deleteAll());
+    }
+
+    /**
+     * Runs the load test and returns the process exit code: 0 when every endpoint stayed within the error budget.
+     */
+    public int run() throws InterruptedException, IOException {
+        System.out.println("Starting load run against " + ApiConfig.baseUrl() + " with " + config);
+        installFilters();
+        prepareSuite();
+
+        long warmupNanos = TimeUnit.SECONDS.toNanos(config.getWarmupSeconds());
+        long start = System.nanoTime();
+        long deadline = start + warmupNanos + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+        String[] cucumberArgs = cucumberArguments();
+
+        AtomicInteger userNumber = new AtomicInteger();
+        ExecutorService users = Executors.newFixedThreadPool(config.getUsers(),
+                runnable -> new Thread(runnable, "virtual-user-" + userNumber.incrementAndGet()));
+        for (int i = 0; i < config.getUsers(); i++) {
+            users.submit(() -> runIterationsUntil(deadline, cucumberArgs));
+        }
+        long measureStart = start;
+        if (warmupNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(warmupNanos);
+            EndpointMetrics.reset();
+            ScenarioOutcomes.reset();
+            OperationMetrics.reset();
+            measureStart = System.nanoTime();
+        }
+        users.shutdown();
+        // Let every user finish the iteration it is in when the deadline passes
+        boolean finished = users.awaitTermination(config.getDurationSeconds() + 600, TimeUnit.SECONDS);
+        double elapsedSeconds = (System.nanoTime() - measureStart) / 1e9;
+        if (!finished) {
+            System.out.println("Virtual users were still running 10 minutes after the deadline; interrupting them."
+                    + " The figures below include their unfinished iterations and the run fails.");
+            users.shutdownNow();
+        }
+
+        LoadReport report = new LoadReport(config, EndpointMetrics.all(), elapsedSeconds);
+        report.print(System.out);
+        report.write(Paths.get("target", "load-report", "summary.json"));
+        MetricsExporter.exportAll();
+        System.out.printf("%d iterations, %d with failed scenarios%n", iterations.get(), failedIterations.get());
+        System.out.println("Payload template cache: " + JsonUtils.cacheStats());
+        System.out.println("HTTP connection reuse: " + ConnectionMetrics.summary());
+        return finished && report.withinErrorBudget() && iterations.get() > 0 ? 0 : 1;
+    }
+
+    /**
+     * The work of the suite-wide @BeforeAll hooks, done once for all users.
+     */
+    private void prepareSuite() {
+        if (ApiConfig.booleanProperty("cleanup.orphans", false)) {
+            System.out.println("Orphan cleanup: " + CreatedObjectRegistry.instance().deleteOrphans(ApiConfig.baseUrl()));
+        }
+        if (ApiConfig.booleanProperty("fixture.provision.enabled", true)) {
+            // Only for the replayed scenarios
+            FixturePool.instance().provisionOnce(FixtureDemand.of(FeatureFiles.select(config.getFeatures(), config.getTags(), null)));
+        }
+    }
+
+    private void runIterationsUntil(long deadline, String[] cucumberArgs) {
+        ClassLoader classLoader = LoadRunner.class.getClassLoader();
+        while (System.nanoTime() < deadline) {
+            byte exitStatus = Main.run(cucumberArgs, classLoader);
+            iterations.incrementAndGet();
+            if (exitStatus != 0) {
+                failedIterations.incrementAndGet();
+            }
+        }
+    }
+
+    private void installFilters() {
+        List<Filter> filters = new ArrayList<>();
+        if (config.getRequestsPerSecond() > 0) {
+            filters.add(new RequestPacer(config.getRequestsPerSecond(), config.getMaxCatchUp()));
+        }
+        RestAssured.filters(filters);
+    }
+
+    private String[] cucumberArguments() {
+        List<String> args = new ArrayList<>();
+        args.add("--glue");
+        args.add("com.natwest.automation.steps");
+        args.add("--tags");
+        args.add(config.getTags());
+        args.add("--plugin");
+        args.add(ScenarioOutcomes.class.getName());
+        args.add("--plugin");
+        args.add(RunMetricsPlugin.class.getName());
+        args.add("--publish-quiet");
+        for (String feature : config.getFeatures().split("[,\\s]+")) {
+            if (!feature.isEmpty()) {
+                args.add(feature);
+            }
+        }
+        return args.toArray(new String[0]);
+    }
+}
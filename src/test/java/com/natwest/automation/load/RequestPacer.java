@@ -0,0 +1,62 @@
+// src/test/java/com/natwest/automation/load/RequestPacer.java
+package com.natwest.automation.load;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * RestAssured filter that spaces request starts evenly to hit a target rate across all virtual users.
+ * Each request claims the next free send slot and waits for it; the wait happens before the
+ * TimingFilter starts its clock, so pacing never shows up as latency.
+ * <p>
+ * When the users fall behind the schedule (slow responses, a GC pause), missed slots are sent back to back to
+ * keep the average rate, but at most maxCatchUp of them; older ones are dropped rather than released as one
+ * burst that would measure the server's queueing instead of its latency at the target rate.
+ */
+public class RequestPacer implements OrderedFilter {
+
+    private final long intervalNanos;
+    private final long maxCatchUpNanos; // How far behind the clock a claimed slot may be
+    private final AtomicLong nextSlotNanos;
+
+    public RequestPacer(double requestsPerSecond, int maxCatchUp) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("Request rate must be positive but was " + requestsPerSecond);
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        this.maxCatchUpNanos = intervalNanos * Math.max(0, maxCatchUp);
+        this.nextSlotNanos = new AtomicLong(System.nanoTime());
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        long now = System.nanoTime();
+        long slot;
+        while (true) {
+            long next = nextSlotNanos.get();
+            slot = Math.max(next, now - maxCatchUpNanos);
+            if (nextSlotNanos.compareAndSet(next, slot + intervalNanos)) {
+                break;
+            }
+            now = System.nanoTime();
+        }
+        long wait = slot - now;
+        while (wait > 0) {
+            LockSupport.parkNanos(wait);
+            wait = slot - System.nanoTime();
+        }
+        return ctx.next(requestSpec, responseSpec);
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,64 @@
+// src/test/java/com/natwest/automation/load/ScenarioOutcomes.java
+package com.natwest.automation.load;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCaseFinished;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cucumber plugin that counts passed and failed scenario executions during a load run, and the time spent in them.
+ * Cucumber creates a new plugin instance for every iteration, so the counts are kept in static state.
+ */
+public class ScenarioOutcomes implements ConcurrentEventListener {
+
+    private static final Map<String, LongAdder> PASSED = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> FAILED = new ConcurrentHashMap<>();
+    private static final LongAdder SCENARIO_NANOS = new LongAdder();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        Map<String, LongAdder> outcomes = event.getResult().getStatus() == Status.PASSED ? PASSED : FAILED;
+        outcomes.computeIfAbsent(event.getTestCase().getName(), name -> new LongAdder()).increment();
+        SCENARIO_NANOS.add(event.getResult().getDuration().toNanos());
+    }
+
+    /**
+     * Passed executions per scenario name.
+     */
+    public static Map<String, LongAdder> passed() {
+        return PASSED;
+    }
+
+    /**
+     * Failed executions per scenario name.
+     */
+    public static Map<String, LongAdder> failed() {
+        return FAILED;
+    }
+
+    /**
+     * Time all users together spent executing scenarios, without the Cucumber start-up of each iteration.
+     */
+    public static double scenarioSeconds() {
+        return SCENARIO_NANOS.sum() / 1e9;
+    }
+
+    /**
+     * Zeroes all recorded outcomes, e.g. after a warm-up period. The counters are kept, so a scenario that
+     * finishes while the reset runs is not lost.
+     */
+    public static void reset() {
+        PASSED.values().forEach(LongAdder::reset);
+        FAILED.values().forEach(LongAdder::reset);
+        SCENARIO_NANOS.reset();
+    }
+}
@@ -0,0 +1,44 @@
+// src/test/java/com/natwest/automation/metrics/EndpointMetrics.java
+package com.natwest.automation.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Suite-wide registry of per-endpoint statistics, keyed by labels such as "GET /objects/{id}".
+ * Safe to record into from any number of threads.
+ */
+public final class EndpointMetrics {
+
+    private static final Map<String, EndpointStats> STATS = new ConcurrentHashMap<>();
+
+    private EndpointMetrics() {
+    }
+
+    /**
+     * Returns the statistics for an endpoint label, creating them on first use.
+     */
+    public static EndpointStats forEndpoint(String endpoint) {
+        return STATS.computeIfAbsent(endpoint, EndpointStats::new);
+    }
+
+    /**
+     * All endpoints recorded so far, sorted by label.
+     */
+    public static List<EndpointStats> all() {
+        List<EndpointStats> all = new ArrayList<>(STATS.values());
+        all.sort(Comparator.comparing(EndpointStats::getEndpoint));
+        return all;
+    }
+
+    /**
+     * Zeroes every recording, e.g. after a warm-up period. Registered endpoints are kept, so a request that
+     * looked up its statistics before the reset and finishes after it is counted in the new period.
+     */
+    public static void reset() {
+        STATS.values().forEach(EndpointStats::reset);
+    }
+}
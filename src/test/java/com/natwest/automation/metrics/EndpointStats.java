@@ -0,0 +1,164 @@
+// src/test/java/com/natwest/automation/metrics/EndpointStats.java
+package com.natwest.automation.metrics;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome counters for one endpoint.
+ * Latencies go into an HdrHistogram in microseconds, so recording is a few array updates
+ * and percentiles stay accurate to three significant digits.
+ */
+public class EndpointStats {
+
+    private final String endpoint;
+    private final Histogram latencyMicros = new ConcurrentHistogram(3);
+    private final LongAdder errors = new LongAdder(); // Transport failures and 5xx/429 responses
+    private final LongAdder totalNanos = new LongAdder();
+    // Phase totals, only for exchanges whose phases the HTTP client reported (see HttpPhaseTimer)
+    private final LongAdder phasedCount = new LongAdder();
+    private final LongAdder connectNanos = new LongAdder();
+    private final LongAdder firstByteNanos = new LongAdder();
+    private final LongAdder downloadNanos = new LongAdder();
+    // Client-side waiting on the rate limit and retry delays, kept out of the latency histogram
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final AtomicInteger resets = new AtomicInteger();
+
+    public EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Records one completed exchange.
+     */
+    public void record(long durationNanos, int statusCode) {
+        latencyMicros.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(durationNanos)));
+        totalNanos.add(durationNanos);
+        if (statusCode >= 500 || statusCode == 429) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Records an exchange that failed without a response (connection refused, timeout, ...).
+     */
+    public void recordFailure(long durationNanos) {
+        latencyMicros.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(durationNanos)));
+        totalNanos.add(durationNanos);
+        errors.increment();
+    }
+
+    /**
+     * Adds the phases of an exchange already counted by record: connection setup, time to first byte,
+     * and the remainder (body download and client-side processing).
+     */
+    public void recordPhases(long durationNanos, long connect, long firstByte) {
+        phasedCount.increment();
+        connectNanos.add(connect);
+        firstByteNanos.add(firstByte);
+        downloadNanos.add(Math.max(0, durationNanos - connect - firstByte));
+    }
+
+    /**
+     * Records time an exchange spent waiting before or between its attempts, and how often it was retried.
+     */
+    public void recordWait(long nanos, int retryCount) {
+        waitNanos.add(nanos);
+        retries.add(retryCount);
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getCount() {
+        return latencyMicros.getTotalCount();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public double getErrorRate() {
+        long count = getCount();
+        return count == 0 ? 0.0 : (double) getErrors() / count;
+    }
+
+    /**
+     * Latency at the given percentile (0-100) in milliseconds.
+     */
+    public double percentileMillis(double percentile) {
+        return latencyMicros.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public double meanMillis() {
+        return latencyMicros.getMean() / 1000.0;
+    }
+
+    public double maxMillis() {
+        return latencyMicros.getMaxValue() / 1000.0;
+    }
+
+    public double totalMillis() {
+        return totalNanos.sum() / 1e6;
+    }
+
+    /**
+     * Number of exchanges with phase timings.
+     */
+    public long getPhasedCount() {
+        return phasedCount.sum();
+    }
+
+    public double connectMillis() {
+        return connectNanos.sum() / 1e6;
+    }
+
+    public double firstByteMillis() {
+        return firstByteNanos.sum() / 1e6;
+    }
+
+    public double downloadMillis() {
+        return downloadNanos.sum() / 1e6;
+    }
+
+    public double waitMillis() {
+        return waitNanos.sum() / 1e6;
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /**
+     * Copy of the latency histogram (microseconds), safe to read while recording continues.
+     */
+    public Histogram histogramCopy() {
+        return latencyMicros.copy();
+    }
+
+    /**
+     * Number of times the statistics were zeroed, so that readers taking deltas can tell a reset from a quiet interval.
+     */
+    public int getResetCount() {
+        return resets.get();
+    }
+
+    void reset() {
+        resets.incrementAndGet();
+        latencyMicros.reset();
+        errors.reset();
+        totalNanos.reset();
+        phasedCount.reset();
+        connectNanos.reset();
+        firstByteNanos.reset();
+        downloadNanos.reset();
+        waitNanos.reset();
+        retries.reset();
+    }
+}
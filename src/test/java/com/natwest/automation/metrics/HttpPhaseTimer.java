@@ -0,0 +1,144 @@
+// src/test/java/com/natwest/automation/metrics/HttpPhaseTimer.java
+package com.natwest.automation.metrics;
+
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponseInterceptor;
+
+/**
+ * Splits the exchange running on the current thread into phases, using timestamps taken by the shared
+ * HTTP client: time spent opening a connection, time from sending the request to receiving the response
+ * headers (time to first byte), and the rest, which is reading the body and RestAssured's own processing.
+ * Time spent waiting for a rate limit token or before a retry is tracked as well, so that it can be
+ * left out of the latency. RestAssured runs each exchange on the calling thread, so a thread-local is
+ * enough to tie them together.
+ */
+public final class HttpPhaseTimer {
+
+    private static final ThreadLocal<HttpPhaseTimer> CURRENT = ThreadLocal.withInitial(HttpPhaseTimer::new);
+
+    private long connectNanos;
+    private long requestSentAt;
+    private long firstByteNanos;
+    private long waitNanos;
+    private long rejectedNanos;
+    private int retries;
+    private long latencyNanos = -1;
+
+    private HttpPhaseTimer() {
+    }
+
+    /**
+     * Clears the current thread's phases before a new exchange starts and returns them.
+     */
+    public static HttpPhaseTimer start() {
+        HttpPhaseTimer timer = CURRENT.get();
+        timer.connectNanos = 0;
+        timer.requestSentAt = 0;
+        timer.firstByteNanos = 0;
+        timer.waitNanos = 0;
+        timer.rejectedNanos = 0;
+        timer.retries = 0;
+        return timer;
+    }
+
+    /**
+     * Adds the time taken to open a connection for the current thread's exchange.
+     */
+    public static void recordConnect(long nanos) {
+        CURRENT.get().connectNanos += nanos;
+    }
+
+    /**
+     * Adds time the current thread's exchange spent waiting on the client-side rate limit or a retry delay.
+     */
+    public static void recordWait(long nanos) {
+        CURRENT.get().waitNanos += nanos;
+    }
+
+    /**
+     * Adds the time of an attempt that was throttled and will be retried, and clears its phases, so that the
+     * exchange's latency and phases are those of the attempt that was finally answered.
+     */
+    public static void recordRejectedAttempt(long nanos) {
+        HttpPhaseTimer timer = CURRENT.get();
+        timer.rejectedNanos += nanos;
+        timer.connectNanos = 0;
+        timer.requestSentAt = 0;
+        timer.firstByteNanos = 0;
+    }
+
+    /**
+     * Stores the latency TimingFilter measured for the current thread's exchange, for takeLatencyNanos.
+     */
+    static void recordLatency(long nanos) {
+        CURRENT.get().latencyNanos = nanos;
+    }
+
+    /**
+     * Latency of the current thread's last exchange as TimingFilter measured it, i.e. without the time spent
+     * waiting or on throttled attempts, and clears it; -1 if no exchange was timed since the last call,
+     * as when it was answered from a replayed recording.
+     */
+    public static long takeLatencyNanos() {
+        HttpPhaseTimer timer = CURRENT.get();
+        long nanos = timer.latencyNanos;
+        timer.latencyNanos = -1;
+        return nanos;
+    }
+
+    /**
+     * Counts a retry of the current thread's exchange after a throttled response.
+     */
+    public static void recordRetry() {
+        CURRENT.get().retries++;
+    }
+
+    /**
+     * Request interceptor; runs once the connection is ready, just before the request is written.
+     */
+    public static HttpRequestInterceptor requestInterceptor() {
+        return (request, context) -> CURRENT.get().requestSentAt = System.nanoTime();
+    }
+
+    /**
+     * Response interceptor; runs as soon as the response headers have been read, before the body.
+     */
+    public static HttpResponseInterceptor responseInterceptor() {
+        return (response, context) -> {
+            HttpPhaseTimer timer = CURRENT.get();
+            if (timer.requestSentAt != 0) {
+                timer.firstByteNanos = System.nanoTime() - timer.requestSentAt;
+            }
+        };
+    }
+
+    public long getConnectNanos() {
+        return connectNanos;
+    }
+
+    public long getFirstByteNanos() {
+        return firstByteNanos;
+    }
+
+    public long getWaitNanos() {
+        return waitNanos;
+    }
+
+    /**
+     * Time spent waiting plus the time of throttled attempts; none of it is latency of the exchange.
+     */
+    public long getExcludedNanos() {
+        return waitNanos + rejectedNanos;
+    }
+
+    public int getRetries() {
+        return retries;
+    }
+
+    /**
+     * True if the client reported the phases of this exchange; false for replayed or non-Apache exchanges.
+     */
+    public boolean hasPhases() {
+        return firstByteNanos > 0;
+    }
+}
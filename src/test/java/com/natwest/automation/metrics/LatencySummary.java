@@ -0,0 +1,31 @@
+// src/test/java/com/natwest/automation/metrics/LatencySummary.java
+package com.natwest.automation.metrics;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Locale;
+
+/**
+ * Formats a latency histogram recorded in microseconds as a short, human-readable table.
+ */
+public final class LatencySummary {
+
+    private LatencySummary() {
+    }
+
+    /**
+     * Returns count, min, mean, common percentiles and max in milliseconds, one per line.
+     */
+    public static String format(Histogram latencyMicros) {
+        return String.format(Locale.ROOT,
+                "count: %d%nmin:   %.1f ms%nmean:  %.1f ms%np50:   %.1f ms%np90:   %.1f ms%np95:   %.1f ms%np99:   %.1f ms%nmax:   %.1f ms",
+                latencyMicros.getTotalCount(),
+                latencyMicros.getMinValue() / 1000.0,
+                latencyMicros.getMean() / 1000.0,
+                latencyMicros.getValueAtPercentile(50) / 1000.0,
+                latencyMicros.getValueAtPercentile(90) / 1000.0,
+                latencyMicros.getValueAtPercentile(95) / 1000.0,
+                latencyMicros.getValueAtPercentile(99) / 1000.0,
+                latencyMicros.getMaxValue() / 1000.0);
+    }
+}
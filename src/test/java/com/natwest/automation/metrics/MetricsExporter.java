@@ -0,0 +1,156 @@
+// src/test/java/com/natwest/automation/metrics/MetricsExporter.java
+package com.natwest.automation.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.natwest.automation.http.ConnectionMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes the run's endpoint and operation timings as JSON (run-metrics.json) and in the Prometheus
+ * text exposition format (run-metrics.prom), under metrics.export.dir (default target/metrics).
+ * The .prom file can be pushed to a Pushgateway or read by the node exporter's textfile collector.
+ */
+public final class MetricsExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsExporter.class);
+    private static final double[] QUANTILES = {0.5, 0.9, 0.95, 0.99};
+
+    private MetricsExporter() {
+    }
+
+    /**
+     * Exports everything recorded so far to the configured directory.
+     */
+    public static void exportAll() {
+        Path directory = Paths.get(System.getProperty("metrics.export.dir", "target/metrics"));
+        List<EndpointStats> endpoints = EndpointMetrics.all();
+        List<OperationStats> operations = OperationMetrics.all();
+        try {
+            Files.createDirectories(directory);
+            writeJson(directory.resolve("run-metrics.json"), endpoints, operations);
+            Files.write(directory.resolve("run-metrics.prom"), prometheus(endpoints, operations).getBytes(StandardCharsets.UTF_8));
+            logger.info("Run metrics written to {}", directory.toAbsolutePath());
+        } catch (IOException e) {
+            logger.warn("Failed to export run metrics to {}: {}", directory, e.getMessage());
+        }
+    }
+
+    static void writeJson(Path file, List<EndpointStats> endpoints, List<OperationStats> operations) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        ObjectNode root = objectMapper.createObjectNode();
+        ArrayNode endpointsNode = root.putArray("endpoints");
+        for (EndpointStats stats : endpoints) {
+            ObjectNode endpointNode = endpointsNode.addObject();
+            endpointNode.put("endpoint", stats.getEndpoint());
+            endpointNode.put("requests", stats.getCount());
+            endpointNode.put("errors", stats.getErrors());
+            endpointNode.put("totalMillis", stats.totalMillis());
+            endpointNode.put("retries", stats.getRetries());
+            endpointNode.put("rateLimitWaitMillis", stats.waitMillis());
+            ObjectNode latency = endpointNode.putObject("latencyMillis");
+            for (double quantile : QUANTILES) {
+                latency.put("p" + (int) (quantile * 100), stats.percentileMillis(quantile * 100));
+            }
+            latency.put("max", stats.maxMillis());
+            ObjectNode phases = endpointNode.putObject("phaseTotalsMillis");
+            phases.put("exchanges", stats.getPhasedCount());
+            phases.put("connect", stats.connectMillis());
+            phases.put("timeToFirstByte", stats.firstByteMillis());
+            phases.put("download", stats.downloadMillis());
+        }
+        ArrayNode operationsNode = root.putArray("operations");
+        for (OperationStats stats : operations) {
+            ObjectNode operationNode = operationsNode.addObject();
+            operationNode.put("category", stats.getCategory());
+            operationNode.put("name", stats.getName());
+            operationNode.put("count", stats.getCount());
+            operationNode.put("totalMillis", stats.totalMillis());
+            operationNode.put("p50Millis", stats.percentileMillis(50));
+            operationNode.put("p95Millis", stats.percentileMillis(95));
+            operationNode.put("maxMillis", stats.maxMillis());
+        }
+        ObjectNode connections = root.putObject("connections");
+        connections.put("opened", ConnectionMetrics.getOpened());
+        connections.put("reused", ConnectionMetrics.getReused());
+        connections.put("connectMillis", ConnectionMetrics.getConnectMillis());
+        objectMapper.writeValue(file.toFile(), root);
+    }
+
+    static String prometheus(List<EndpointStats> endpoints, List<OperationStats> operations) {
+        StringBuilder out = new StringBuilder();
+        out.append("# HELP objects_api_http_request_seconds Latency of HTTP exchanges by endpoint template.\n");
+        out.append("# TYPE objects_api_http_request_seconds summary\n");
+        for (EndpointStats stats : endpoints) {
+            String labels = "endpoint=\"" + escape(stats.getEndpoint()) + "\"";
+            for (double quantile : QUANTILES) {
+                sample(out, "objects_api_http_request_seconds", labels + ",quantile=\"" + quantile + "\"",
+                        stats.percentileMillis(quantile * 100) / 1000);
+            }
+            sample(out, "objects_api_http_request_seconds_sum", labels, stats.totalMillis() / 1000);
+            sample(out, "objects_api_http_request_seconds_count", labels, stats.getCount());
+        }
+        out.append("# HELP objects_api_http_errors_total HTTP exchanges that failed or returned 5xx/429.\n");
+        out.append("# TYPE objects_api_http_errors_total counter\n");
+        for (EndpointStats stats : endpoints) {
+            sample(out, "objects_api_http_errors_total", "endpoint=\"" + escape(stats.getEndpoint()) + "\"", stats.getErrors());
+        }
+        out.append("# HELP objects_api_http_retries_total Retries after 429 or 503 responses.\n");
+        out.append("# TYPE objects_api_http_retries_total counter\n");
+        for (EndpointStats stats : endpoints) {
+            sample(out, "objects_api_http_retries_total", "endpoint=\"" + escape(stats.getEndpoint()) + "\"", stats.getRetries());
+        }
+        out.append("# HELP objects_api_http_rate_limit_wait_seconds_total Time spent waiting on the client-side rate limit and retry delays.\n");
+        out.append("# TYPE objects_api_http_rate_limit_wait_seconds_total counter\n");
+        for (EndpointStats stats : endpoints) {
+            sample(out, "objects_api_http_rate_limit_wait_seconds_total", "endpoint=\"" + escape(stats.getEndpoint()) + "\"",
+                    stats.waitMillis() / 1000);
+        }
+        out.append("# HELP objects_api_http_phase_seconds_total Time spent per HTTP phase: connect, time to first byte, download.\n");
+        out.append("# TYPE objects_api_http_phase_seconds_total counter\n");
+        for (EndpointStats stats : endpoints) {
+            String endpoint = "endpoint=\"" + escape(stats.getEndpoint()) + "\"";
+            sample(out, "objects_api_http_phase_seconds_total", endpoint + ",phase=\"connect\"", stats.connectMillis() / 1000);
+            sample(out, "objects_api_http_phase_seconds_total", endpoint + ",phase=\"first_byte\"", stats.firstByteMillis() / 1000);
+            sample(out, "objects_api_http_phase_seconds_total", endpoint + ",phase=\"download\"", stats.downloadMillis() / 1000);
+        }
+        out.append("# HELP objects_api_operation_seconds Duration of in-process operations (Gherkin steps, JSON handling).\n");
+        out.append("# TYPE objects_api_operation_seconds summary\n");
+        for (OperationStats stats : operations) {
+            String labels = "category=\"" + escape(stats.getCategory()) + "\",name=\"" + escape(stats.getName()) + "\"";
+            for (double quantile : QUANTILES) {
+                sample(out, "objects_api_operation_seconds", labels + ",quantile=\"" + quantile + "\"",
+                        stats.percentileMillis(quantile * 100) / 1000);
+            }
+            sample(out, "objects_api_operation_seconds_sum", labels, stats.totalMillis() / 1000);
+            sample(out, "objects_api_operation_seconds_count", labels, stats.getCount());
+        }
+        return out.toString();
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(name).append('{').append(labels).append("} ").append(String.format(Locale.ROOT, "%.6f", value)).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, long value) {
+        out.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    /**
+     * Escapes a label value as the exposition format requires.
+     */
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
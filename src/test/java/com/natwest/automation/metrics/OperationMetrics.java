@@ -0,0 +1,52 @@
+// src/test/java/com/natwest/automation/metrics/OperationMetrics.java
+package com.natwest.automation.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Suite-wide registry of in-process operation timings, grouped by category:
+ * "step" for Gherkin steps (keyed by step definition pattern) and "json" for JsonUtils calls.
+ */
+public final class OperationMetrics {
+
+    public static final String STEP = "step";
+    public static final String JSON = "json";
+
+    private static final Map<String, OperationStats> STATS = new ConcurrentHashMap<>();
+
+    private OperationMetrics() {
+    }
+
+    /**
+     * Returns the statistics for an operation, creating them on first use.
+     * Callers may keep the returned object; it stays registered for the lifetime of the JVM.
+     */
+    public static OperationStats forOperation(String category, String name) {
+        return STATS.computeIfAbsent(category + ":" + name, key -> new OperationStats(category, name));
+    }
+
+    /**
+     * All operations with at least one recording, sorted by category and name.
+     */
+    public static List<OperationStats> all() {
+        List<OperationStats> all = new ArrayList<>();
+        for (OperationStats stats : STATS.values()) {
+            if (stats.getCount() > 0) {
+                all.add(stats);
+            }
+        }
+        all.sort(Comparator.comparing(OperationStats::getCategory).thenComparing(OperationStats::getName));
+        return all;
+    }
+
+    /**
+     * Zeroes every recording, e.g. after a warm-up period. Registered operations are kept.
+     */
+    public static void reset() {
+        STATS.values().forEach(OperationStats::reset);
+    }
+}
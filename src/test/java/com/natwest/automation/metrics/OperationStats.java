@@ -0,0 +1,64 @@
+// src/test/java/com/natwest/automation/metrics/OperationStats.java
+package com.natwest.automation.metrics;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Durations of one kind of in-process operation, such as a Gherkin step or a JsonUtils call.
+ */
+public class OperationStats {
+
+    private final String category;
+    private final String name;
+    private final Histogram durationMicros = new ConcurrentHistogram(3);
+    private final LongAdder totalNanos = new LongAdder();
+
+    public OperationStats(String category, String name) {
+        this.category = category;
+        this.name = name;
+    }
+
+    /**
+     * Records one completed operation.
+     */
+    public void record(long durationNanos) {
+        durationMicros.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(durationNanos)));
+        totalNanos.add(durationNanos);
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return durationMicros.getTotalCount();
+    }
+
+    public double totalMillis() {
+        return totalNanos.sum() / 1e6;
+    }
+
+    /**
+     * Duration at the given percentile (0-100) in milliseconds.
+     */
+    public double percentileMillis(double percentile) {
+        return durationMicros.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public double maxMillis() {
+        return durationMicros.getMaxValue() / 1000.0;
+    }
+
+    void reset() {
+        durationMicros.reset();
+        totalNanos.reset();
+    }
+}
@@ -0,0 +1,176 @@
+// src/test/java/com/natwest/automation/metrics/ResultsFile.java
+package com.natwest.automation.metrics;
+
+import com.natwest.automation.config.ApiConfig;
+import com.natwest.automation.config.ExecutionProfile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compact CSV of every HTTP exchange and scenario, written in the perf profile instead of report attachments:
+ * <pre>
+ * timestamp_ms,type,name,duration_us,status
+ * 1717065600123,http,GET /objects/{id},8421,200
+ * 1717065600131,scenario,Verify an existing object can be retrieved by ID,9876,PASSED
+ * </pre>
+ * Callers only queue a line; a background thread writes them in batches, so the file never blocks a request.
+ * If the queue is full (results.queue.capacity, default 65536) lines are dropped and counted rather than
+ * slowing the run down.
+ * <p>
+ * Every JVM writes its own file, so shards and forks sharing a working directory never truncate each other's:
+ * results.file (default target/perf-results/results.csv) with the shard, e.g. results-shard-0-of-4.csv, or
+ * otherwise the process ID, e.g. results-12345.csv, added to the name.
+ */
+public final class ResultsFile {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResultsFile.class);
+    private static final String HEADER = "timestamp_ms,type,name,duration_us,status";
+    private static final String END = new String("end"); // Identity marker queued by close()
+    private static volatile ResultsFile instance;
+
+    private final Path file;
+    private final BlockingQueue<String> queue;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writer;
+
+    private ResultsFile(Path file, int capacity) {
+        this.file = file;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.writer = new Thread(this::writeLoop, "results-file-writer");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * The results file of this JVM when the perf profile is active, opened on first use; null otherwise.
+     */
+    public static ResultsFile active() {
+        if (ExecutionProfile.current() != ExecutionProfile.PERF) {
+            return null;
+        }
+        if (instance == null) {
+            synchronized (ResultsFile.class) {
+                if (instance == null) {
+                    ResultsFile results = new ResultsFile(fileOfThisJvm(System.getProperty("results.file", "target/perf-results/results.csv")),
+                            ApiConfig.intProperty("results.queue.capacity", 65_536));
+                    results.writer.start();
+                    Runtime.getRuntime().addShutdownHook(new Thread(results::close, "results-file-shutdown"));
+                    instance = results;
+                }
+            }
+        }
+        return instance;
+    }
+
+    private static Path fileOfThisJvm(String baseFile) {
+        int shardCount = ApiConfig.intProperty("shard.count", 1);
+        String id = shardCount > 1
+                ? "shard-" + ApiConfig.intProperty("shard.index", 0) + "-of-" + shardCount
+                : Long.toString(ProcessHandle.current().pid());
+        Path base = Paths.get(baseFile);
+        String name = base.getFileName().toString();
+        int extension = name.lastIndexOf('.');
+        String fileName = extension > 0
+                ? name.substring(0, extension) + "-" + id + name.substring(extension)
+                : name + "-" + id;
+        return base.resolveSibling(fileName);
+    }
+
+    /**
+     * Queues one HTTP exchange.
+     */
+    public void recordExchange(String endpoint, long durationNanos, int statusCode) {
+        offer(line("http", endpoint, durationNanos, Integer.toString(statusCode)));
+    }
+
+    /**
+     * Queues one finished scenario with its status, e.g. PASSED or FAILED.
+     */
+    public void recordScenario(String name, long durationNanos, String status) {
+        offer(line("scenario", name, durationNanos, status));
+    }
+
+    /**
+     * Lines dropped because the writer could not keep up.
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Writes out everything queued so far and stops the writer. Waits at most five seconds.
+     */
+    public void close() {
+        try {
+            if (!queue.offer(END, 5, TimeUnit.SECONDS)) {
+                logger.warn("Results file writer did not drain its queue; {} may be incomplete", file);
+            }
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (dropped.sum() > 0) {
+            logger.warn("{} result lines were dropped because the results file writer fell behind", dropped.sum());
+        }
+    }
+
+    private void offer(String line) {
+        if (!queue.offer(line)) {
+            dropped.increment();
+        }
+    }
+
+    private static String line(String type, String name, long durationNanos, String status) {
+        return System.currentTimeMillis() + "," + type + "," + csvField(name) + ","
+                + TimeUnit.NANOSECONDS.toMicros(durationNanos) + "," + status;
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"").replace('\n', ' ') + '"';
+    }
+
+    private void writeLoop() {
+        List<String> batch = new ArrayList<>();
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                out.write(HEADER);
+                out.newLine();
+                while (true) {
+                    batch.add(queue.take());
+                    queue.drainTo(batch);
+                    for (String line : batch) {
+                        if (line == END) {
+                            return; // The try-with-resources flushes what was written
+                        }
+                        out.write(line);
+                        out.newLine();
+                    }
+                    batch.clear();
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Failed to write results file {}: {}", file, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
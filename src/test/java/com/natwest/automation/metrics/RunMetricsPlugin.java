@@ -0,0 +1,61 @@
+// src/test/java/com/natwest/automation/metrics/RunMetricsPlugin.java
+package com.natwest.automation.metrics;
+
+import com.natwest.automation.config.ExecutionProfile;
+import com.natwest.automation.context.ScenarioContext;
+import com.natwest.automation.history.RunLatencies;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+
+/**
+ * Cucumber plugin that times every Gherkin step, by step definition pattern and for the running
+ * scenario, and exports all run metrics when the run finishes. Cucumber delivers step events on the
+ * thread that ran the step, so the scenario's context is the current thread's. In the perf profile,
+ * finished scenarios go to the results file instead of a per-scenario summary. Durations of passed scenarios
+ * are kept by feature and name for the comparison with the latency history.
+ * Export can be turned off with -Dmetrics.export.enabled=false (the load runner exports once at the end instead).
+ */
+public class RunMetricsPlugin implements ConcurrentEventListener {
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepFinished.class, this::stepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::scenarioFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> runFinished());
+    }
+
+    private void stepFinished(TestStepFinished event) {
+        if (!(event.getTestStep() instanceof PickleStepTestStep)) {
+            return; // Hooks are not steps
+        }
+        PickleStepTestStep step = (PickleStepTestStep) event.getTestStep();
+        long durationNanos = event.getResult().getDuration().toNanos();
+        OperationMetrics.forOperation(OperationMetrics.STEP, step.getPattern()).record(durationNanos);
+        if (ExecutionProfile.recordsReportData()) {
+            ScenarioContext.current().getScenarioTimings().recordStep(step.getStep().getText(), durationNanos);
+        }
+    }
+
+    private void scenarioFinished(TestCaseFinished event) {
+        if (event.getResult().getStatus() == Status.PASSED) {
+            RunLatencies.recordScenario(event.getTestCase().getUri(), event.getTestCase().getName(),
+                    event.getResult().getDuration().toNanos());
+        }
+        ResultsFile results = ResultsFile.active();
+        if (results != null) {
+            results.recordScenario(event.getTestCase().getName(), event.getResult().getDuration().toNanos(),
+                    event.getResult().getStatus().name());
+        }
+    }
+
+    private void runFinished() {
+        if (Boolean.parseBoolean(System.getProperty("metrics.export.enabled", "true"))) {
+            MetricsExporter.exportAll();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+// src/test/java/com/natwest/automation/metrics/ScenarioTimings.java
+package com.natwest.automation.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Step durations and per-endpoint HTTP phase totals of a single scenario, attached to its Serenity report.
+ */
+public class ScenarioTimings {
+
+    private final List<String> steps = new ArrayList<>(); // Already formatted "duration  step text" lines
+    private final Map<String, long[]> exchanges = new LinkedHashMap<>(); // Label -> count, total, connect, first byte, rest
+    private long stepNanos;
+
+    /**
+     * Records a finished step.
+     */
+    public synchronized void recordStep(String text, long durationNanos) {
+        steps.add(String.format(Locale.ROOT, "%9.1f ms  %s", durationNanos / 1e6, text));
+        stepNanos += durationNanos;
+    }
+
+    /**
+     * Records an HTTP exchange; phases are zero when the client did not report them.
+     */
+    public synchronized void recordExchange(String endpoint, long durationNanos, long connectNanos, long firstByteNanos) {
+        long[] totals = exchanges.computeIfAbsent(endpoint, key -> new long[5]);
+        totals[0]++;
+        totals[1] += durationNanos;
+        totals[2] += connectNanos;
+        totals[3] += firstByteNanos;
+        totals[4] += firstByteNanos > 0 ? Math.max(0, durationNanos - connectNanos - firstByteNanos) : 0;
+    }
+
+    /**
+     * Labels of the endpoints this scenario called, in the order of their first call.
+     */
+    public synchronized List<String> endpoints() {
+        return new ArrayList<>(exchanges.keySet());
+    }
+
+    public synchronized boolean isEmpty() {
+        return steps.isEmpty() && exchanges.isEmpty();
+    }
+
+    /**
+     * Step list followed by a table of HTTP time per endpoint, split into phases.
+     */
+    public synchronized String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "Steps (%.1f ms in total):%n", stepNanos / 1e6));
+        steps.forEach(step -> out.append(step).append(System.lineSeparator()));
+        out.append(String.format(Locale.ROOT, "%nHTTP exchanges:%n%-24s %6s %10s %11s %9s %9s%n",
+                "Endpoint", "Calls", "Total ms", "Connect ms", "TTFB ms", "Rest ms"));
+        for (Map.Entry<String, long[]> entry : exchanges.entrySet()) {
+            long[] totals = entry.getValue();
+            out.append(String.format(Locale.ROOT, "%-24s %6d %10.1f %11.1f %9.1f %9.1f%n", entry.getKey(), totals[0],
+                    totals[1] / 1e6, totals[2] / 1e6, totals[3] / 1e6, totals[4] / 1e6));
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,81 @@
+// src/test/java/com/natwest/automation/metrics/TimingFilter.java
+package com.natwest.automation.metrics;
+
+import com.natwest.automation.config.ExecutionProfile;
+import com.natwest.automation.config.ObjectsEndpoint;
+import com.natwest.automation.context.ScenarioContext;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+
+/**
+ * RestAssured filter that times every exchange and records it in EndpointMetrics under its path template,
+ * e.g. "DELETE /objects/{id}". Runs after every filter except RateLimitFilter, so time spent in other filters
+ * is not counted; time RateLimitFilter spends waiting for a token or a retry is recorded apart from latency,
+ * and throttled attempts that were retried are left out of it.
+ * When the shared client reports them (see HttpPhaseTimer), the connect and time-to-first-byte phases are
+ * recorded too, and every exchange is added to the running scenario's timing summary, or in the perf
+ * profile to the results file.
+ */
+public class TimingFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        String label = endpointLabel(requestSpec);
+        EndpointStats stats = EndpointMetrics.forEndpoint(label);
+        HttpPhaseTimer phases = HttpPhaseTimer.start();
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            long duration = System.nanoTime() - start - phases.getExcludedNanos();
+            stats.recordWait(phases.getWaitNanos(), phases.getRetries());
+            stats.recordFailure(duration);
+            ResultsFile results = ResultsFile.active();
+            if (results != null) {
+                results.recordExchange(label, duration, 0); // Status 0: no response
+            }
+            throw e;
+        }
+        long duration = System.nanoTime() - start - phases.getExcludedNanos();
+        HttpPhaseTimer.recordLatency(duration);
+        stats.record(duration, response.getStatusCode());
+        if (phases.getWaitNanos() > 0 || phases.getRetries() > 0) {
+            stats.recordWait(phases.getWaitNanos(), phases.getRetries());
+        }
+        long connect = 0;
+        long firstByte = 0;
+        if (phases.hasPhases()) {
+            connect = phases.getConnectNanos();
+            firstByte = phases.getFirstByteNanos();
+            stats.recordPhases(duration, connect, firstByte);
+        }
+        if (ExecutionProfile.recordsReportData()) {
+            ScenarioContext.current().getScenarioTimings().recordExchange(label, duration, connect, firstByte);
+        } else {
+            ResultsFile results = ResultsFile.active();
+            if (results != null) {
+                results.recordExchange(label, duration, response.getStatusCode());
+            }
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 1; // Just before RateLimitFilter
+    }
+
+    /**
+     * Label for the request: the known /objects template, or the method and user-defined path for anything else.
+     */
+    static String endpointLabel(FilterableRequestSpecification requestSpec) {
+        ObjectsEndpoint endpoint = ObjectsEndpoint.resolve(requestSpec.getMethod(), URI.create(requestSpec.getURI()).getPath());
+        return endpoint != null ? endpoint.label() : requestSpec.getMethod() + " " + requestSpec.getUserDefinedPath();
+    }
+}
@@ -1,9 +1,14 @@
 // src/test/java/com/natwest/automation/model/ObjectData.java
 package com.natwest.automation.model;
 
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Represents the data structure for an object used in the restful-api.dev API.
  * Uses Jackson annotations for JSON serialization/deserialization.
@@ -51,6 +56,8 @@ public class ObjectData {
         private String capacity;
         @JsonProperty("Hard disk size") // Maps the JSON key "Hard disk size" to this field
         private String hardDiskSize;
+        // Any other keys, e.g. "color" or "capacity GB" in catalog records, kept so they round-trip unchanged
+        private final Map<String, Object> additionalProperties = new LinkedHashMap<>();
 
         // Default constructor
         public Data() {
@@ -94,6 +101,15 @@ public class ObjectData {
         public void setCapacity(String capacity) {
             this.capacity = capacity;
         }
+
+        @JsonAnyGetter
+        public Map<String, Object> getAdditionalProperties() {
+            return additionalProperties;
+        }
+
+        @JsonAnySetter
+        public void setAdditionalProperty(String key, Object value) {
+            additionalProperties.put(key, value);
+        }
     }
 }
-
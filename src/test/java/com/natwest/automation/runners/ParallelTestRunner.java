@@ -0,0 +1,35 @@
+// src/test/java/com/natwest/automation/runners/ParallelTestRunner.java
+package com.natwest.automation.runners;
+
+import org.junit.platform.suite.api.ConfigurationParameter;
+import org.junit.platform.suite.api.IncludeEngines;
+import org.junit.platform.suite.api.SelectClasspathResource;
+import org.junit.platform.suite.api.Suite;
+
+import static io.cucumber.junit.platform.engine.Constants.GLUE_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PLUGIN_PROPERTY_NAME;
+
+/**
+ * JUnit Platform suite that runs the same features as TestRunner, but with scenarios spread over a thread pool.
+ * Executed by the 'parallelTest' Gradle task; the thread count comes from the
+ * 'cucumber.execution.parallel.config.fixed.parallelism' system property set by that task.
+ */
+@Suite
+@IncludeEngines("cucumber")
+@SelectClasspathResource("features") // Same feature files as the sequential runner
+@ConfigurationParameter(key = GLUE_PROPERTY_NAME, value = "com.natwest.automation.steps")
+@ConfigurationParameter(key = PLUGIN_PROPERTY_NAME,
+        value = "io.cucumber.core.plugin.SerenityReporterParallel," + // Thread-safe Serenity reporter
+                "pretty," +
+                "html:target/cucumber-reports/cucumber-html-report.html," +
+                "json:target/cucumber-reports/cucumber.json," +
+                "junit:target/cucumber-reports/cucumber.xml," +
+                "com.natwest.automation.metrics.RunMetricsPlugin")
+@ConfigurationParameter(key = PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, value = "true")
+@ConfigurationParameter(key = PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME, value = "fixed")
+public class ParallelTestRunner {
+    // This class remains empty
+    // Configuration is handled by annotations
+}
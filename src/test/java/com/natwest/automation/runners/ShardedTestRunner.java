@@ -0,0 +1,24 @@
+// src/test/java/com/natwest/automation/runners/ShardedTestRunner.java
+package com.natwest.automation.runners;
+
+import com.natwest.automation.shard.ShardedCucumberWithSerenity;
+import io.cucumber.junit.CucumberOptions;
+import org.junit.runner.RunWith;
+
+/**
+ * Runs one shard of the features, chosen by -Dshard.index out of -Dshard.count.
+ * Executed by the 'shardTest' Gradle task; the feature selection and the per-shard report
+ * plugins are set by ShardedCucumberWithSerenity.
+ */
+@RunWith(ShardedCucumberWithSerenity.class)
+@CucumberOptions(
+        features = "src/test/resources/features", // Replaced by this shard's scenarios
+        glue = "com.natwest.automation.steps",
+        plugin = {"pretty",
+                  "com.natwest.automation.metrics.RunMetricsPlugin"
+                 }
+)
+public class ShardedTestRunner {
+    // This class remains empty
+    // Configuration is handled by annotations
+}
@@ -17,7 +17,8 @@ import org.junit.runner.RunWith;
         plugin = {"pretty",                       // Pretty print console output
                   "html:target/cucumber-reports/cucumber-html-report.html", // Basic HTML report
                   "json:target/cucumber-reports/cucumber.json",           // JSON report for other tools
-                  "junit:target/cucumber-reports/cucumber.xml"            // JUnit XML report
+                  "junit:target/cucumber-reports/cucumber.xml",           // JUnit XML report
+                  "com.natwest.automation.metrics.RunMetricsPlugin"       // Step timings and metrics export
                  }
 )
 public class TestRunner {
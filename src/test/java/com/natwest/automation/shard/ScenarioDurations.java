@@ -0,0 +1,199 @@
+// src/test/java/com/natwest/automation/shard/ScenarioDurations.java
+package com.natwest.automation.shard;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.natwest.automation.utils.FeatureFiles;
+import com.natwest.automation.utils.FeatureScenario;
+import com.natwest.automation.utils.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Scenario durations measured by earlier runs, read from Cucumber JSON reports or from a durations file.
+ * A scenario's duration is the sum of its steps, its hooks and the feature background that ran before it.
+ * When several reports contain the same scenario the durations are averaged.
+ * Scenarios are keyed by FeatureScenario.getKey(): feature path from the "features/" directory on plus scenario name,
+ * and the example row number for outlines. Reports locate scenarios by line, so they are matched to the current feature
+ * files when they are read; scenarios that no longer exist are dropped. Durations then survive edits that move lines.
+ * <p>
+ * A durations file holds the averages as {"scenarios": {"features/x.feature: Delete an object": nanos, ...}}. Shards plan from
+ * one such file that every node has (see ShardedCucumberWithSerenity), never from the reports they write
+ * themselves. Refresh it from the reports of the last run with ./gradlew shardDurations:
+ * <ul>
+ *   <li>shard.durations.reports - comma-separated reports or directories to read (default target/cucumber-reports)</li>
+ *   <li>shard.durations - file to write (default shard-durations.json)</li>
+ * </ul>
+ */
+public class ScenarioDurations {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScenarioDurations.class);
+
+    private static final Pattern SHARD_OUTPUT = Pattern.compile("shard-\\d+-of-\\d+");
+
+    private final Map<String, long[]> totals = new TreeMap<>(); // Key -> total nanoseconds, number of runs
+    private final Map<String, String> keysByLine = new HashMap<>(); // "features/x.feature:13" -> key
+
+    /**
+     * Durations of the given scenarios, which reports are matched against.
+     */
+    public ScenarioDurations(List<FeatureScenario> scenarios) {
+        for (FeatureScenario scenario : scenarios) {
+            keysByLine.put(FeatureFiles.featurePath(scenario.getFeatureUri()) + ":" + scenario.getLine(), scenario.getKey());
+        }
+    }
+
+    /**
+     * Writes a durations file from the reports at shard.durations.reports, including those written by shards,
+     * matched against the feature files in shard.features.dir (default src/test/resources/features).
+     */
+    public static void main(String[] args) throws IOException {
+        List<FeatureScenario> scenarios = FeatureFiles.scan(Paths.get(System.getProperty("shard.features.dir", "src/test/resources/features")));
+        ScenarioDurations durations = fromReports(System.getProperty("shard.durations.reports", "target/cucumber-reports"), true, scenarios);
+        Path file = Paths.get(System.getProperty("shard.durations", "shard-durations.json"));
+        durations.write(file);
+        System.out.println("Wrote the durations of " + durations.size() + " scenarios to " + file);
+    }
+
+    /**
+     * Reads the given comma-separated durations files, Cucumber JSON reports, or directories searched recursively
+     * for cucumber.json. Missing locations are skipped, so the first run simply has no history. Unless
+     * includeShardOutputs is set, the shard-&lt;index&gt;-of-&lt;count&gt; directories that shards write are not searched.
+     * Report entries are matched against the given scenarios.
+     */
+    public static ScenarioDurations fromReports(String locations, boolean includeShardOutputs, List<FeatureScenario> scenarios) {
+        ScenarioDurations durations = new ScenarioDurations(scenarios);
+        for (String location : locations.split("\\s*,\\s*")) {
+            if (location.isEmpty()) {
+                continue;
+            }
+            for (Path report : reportFiles(Paths.get(location), includeShardOutputs)) {
+                try {
+                    JsonNode root = JsonUtils.readTree(Files.readAllBytes(report));
+                    if (root.isObject() && root.has("scenarios")) {
+                        durations.addDurationsFile(root);
+                    } else {
+                        durations.addReport(root);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    logger.warn("Skipping unreadable Cucumber report {}: {}", report, e.getMessage());
+                }
+            }
+        }
+        return durations;
+    }
+
+    private static List<Path> reportFiles(Path location, boolean includeShardOutputs) {
+        if (Files.isRegularFile(location)) {
+            return List.of(location);
+        }
+        if (!Files.isDirectory(location)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.walk(location)) {
+            return files.filter(path -> path.getFileName().toString().equals("cucumber.json"))
+                    .filter(path -> includeShardOutputs || !isShardOutput(location.relativize(path)))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to search for Cucumber reports under " + location, e);
+        }
+    }
+
+    private static boolean isShardOutput(Path relativePath) {
+        for (Path part : relativePath) {
+            if (SHARD_OUTPUT.matcher(part.toString()).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addDurationsFile(JsonNode root) {
+        root.path("scenarios").fields().forEachRemaining(entry -> add(entry.getKey(), entry.getValue().asLong()));
+    }
+
+    /**
+     * Writes the average duration of every scenario as a durations file, sorted by key so that it diffs well.
+     */
+    public void write(Path file) throws IOException {
+        ObjectNode root = JsonNodeFactory.instance.objectNode();
+        ObjectNode scenarios = root.putObject("scenarios");
+        totals.forEach((key, total) -> scenarios.put(key, total[0] / total[1]));
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Files.write(file, root.toPrettyString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Adds the scenarios of one parsed Cucumber JSON report that are among the known scenarios.
+     */
+    public void addReport(JsonNode report) {
+        for (JsonNode feature : report) {
+            String uri = feature.path("uri").asText();
+            long backgroundNanos = 0;
+            for (JsonNode element : feature.path("elements")) {
+                long nanos = sumDurations(element.path("before")) + sumDurations(element.path("steps"))
+                        + sumDurations(element.path("after"));
+                if ("background".equals(element.path("type").asText())) {
+                    backgroundNanos += nanos; // Reported as its own element before the scenario it ran for
+                    continue;
+                }
+                String key = keysByLine.get(FeatureFiles.featurePath(uri) + ":" + element.path("line").asInt());
+                if (key != null) {
+                    add(key, backgroundNanos + nanos);
+                } else {
+                    logger.debug("Skipping {}:{} from a report; the feature files have no scenario there any more", uri, element.path("line").asInt());
+                }
+                backgroundNanos = 0;
+            }
+        }
+    }
+
+    /**
+     * Records one run of a scenario.
+     */
+    public void add(String key, long nanos) {
+        long[] total = totals.computeIfAbsent(key, k -> new long[2]);
+        total[0] += nanos;
+        total[1]++;
+    }
+
+    /**
+     * Average duration of the scenario with the given key (see FeatureScenario.getKey()), or -1 if unknown.
+     */
+    public long averageNanos(String key) {
+        long[] total = totals.get(key);
+        return total == null ? -1 : total[0] / total[1];
+    }
+
+    /**
+     * Number of distinct scenarios with a known duration.
+     */
+    public int size() {
+        return totals.size();
+    }
+
+    private static long sumDurations(JsonNode steps) {
+        long nanos = 0;
+        for (JsonNode step : steps) {
+            nanos += step.path("result").path("duration").asLong(0);
+        }
+        return nanos;
+    }
+}
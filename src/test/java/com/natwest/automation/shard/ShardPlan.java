@@ -0,0 +1,152 @@
+// src/test/java/com/natwest/automation/shard/ShardPlan.java
+package com.natwest.automation.shard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Scenarios split into shards, with each shard's estimated run time.
+ */
+public class ShardPlan {
+
+    private final List<Shard> shards;
+
+    ShardPlan(List<Shard> shards) {
+        this.shards = Collections.unmodifiableList(shards);
+    }
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    public Shard get(int index) {
+        if (index < 0 || index >= shards.size()) {
+            throw new IllegalArgumentException("Shard index must be between 0 and " + (shards.size() - 1) + " but was " + index);
+        }
+        return shards.get(index);
+    }
+
+    /**
+     * How far the slowest shard is above the average, as a fraction: 0.1 means it is expected to take 10% longer.
+     */
+    public double imbalance() {
+        long total = 0;
+        long max = 0;
+        for (Shard shard : shards) {
+            total += shard.estimatedNanos;
+            max = Math.max(max, shard.estimatedNanos);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        double mean = (double) total / shards.size();
+        return (max - mean) / mean;
+    }
+
+    /**
+     * Checks that every scenario is in exactly one shard and that the shards hold nothing else.
+     */
+    public void verifyCovers(List<String> scenarios) {
+        Set<String> expected = new HashSet<>(scenarios);
+        Set<String> assigned = new HashSet<>();
+        for (Shard shard : shards) {
+            for (String scenario : shard.scenarios) {
+                if (!assigned.add(scenario)) {
+                    throw new IllegalStateException("Scenario " + scenario + " is assigned to more than one shard");
+                }
+                if (!expected.contains(scenario)) {
+                    throw new IllegalStateException("Shard " + shard.index + " holds unknown scenario " + scenario);
+                }
+            }
+        }
+        expected.removeAll(assigned);
+        if (!expected.isEmpty()) {
+            throw new IllegalStateException("Scenarios not assigned to any shard: " + expected);
+        }
+    }
+
+    /**
+     * Short hash of the assignment of every scenario. Shards of one run must all log the same value; a different
+     * one means the node planned from different feature files or durations and the shards may overlap or leave gaps.
+     */
+    public String fingerprint() {
+        int hash = 1;
+        for (Shard shard : shards) {
+            hash = 31 * hash + shard.scenarios.hashCode();
+        }
+        return String.format(Locale.ROOT, "%08x", hash);
+    }
+
+    /**
+     * One line per shard with its scenario count and estimate.
+     */
+    public String summary() {
+        StringBuilder out = new StringBuilder(String.format(Locale.ROOT, "%d shards, imbalance %.1f%%, plan %s%n", shards.size(), imbalance() * 100, fingerprint()));
+        for (Shard shard : shards) {
+            out.append(String.format(Locale.ROOT, "  shard %d: %d scenarios (%d without history), estimated %.1f s%n",
+                    shard.index, shard.scenarios.size(), shard.withoutHistory, shard.estimatedNanos / 1e9));
+        }
+        return out.toString();
+    }
+
+    /**
+     * The scenarios assigned to one shard, as feature path and line.
+     */
+    public static class Shard {
+        private final int index;
+        private final List<String> scenarios = new ArrayList<>(); // "path/to/file.feature:line"
+        private long estimatedNanos;
+        private int withoutHistory;
+
+        Shard(int index) {
+            this.index = index;
+        }
+
+        void add(String scenario, long nanos, boolean fromHistory) {
+            scenarios.add(scenario);
+            estimatedNanos += nanos;
+            if (!fromHistory) {
+                withoutHistory++;
+            }
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public List<String> getScenarios() {
+            return scenarios;
+        }
+
+        public long getEstimatedNanos() {
+            return estimatedNanos;
+        }
+
+        public boolean isEmpty() {
+            return scenarios.isEmpty();
+        }
+
+        /**
+         * Value for cucumber.features: each feature file once, followed by the lines of its scenarios,
+         * e.g. "src/test/resources/features/objects_api.feature:13:42".
+         */
+        public String toFeaturesArgument() {
+            Map<String, StringBuilder> byFeature = new LinkedHashMap<>();
+            for (String scenario : scenarios) {
+                int separator = scenario.lastIndexOf(':');
+                byFeature.computeIfAbsent(scenario.substring(0, separator), StringBuilder::new)
+                        .append(scenario.substring(separator));
+            }
+            StringJoiner features = new StringJoiner(",");
+            byFeature.values().forEach(features::add);
+            return features.toString();
+        }
+    }
+}
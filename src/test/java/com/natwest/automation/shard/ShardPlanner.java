@@ -0,0 +1,100 @@
+// src/test/java/com/natwest/automation/shard/ShardPlanner.java
+package com.natwest.automation.shard;
+
+import com.natwest.automation.utils.FeatureFiles;
+import com.natwest.automation.utils.FeatureScenario;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Splits the scenarios of a feature directory into shards of about equal run time.
+ * Scenarios are placed longest first, each on the shard with the least estimated time so far
+ * (longest processing time first). With many scenarios that are short compared to a shard, the
+ * slowest shard ends up within a few percent of the average.
+ * Scenarios without history are estimated at the median known duration, or all weighted equally
+ * on a first run. The plan depends only on the feature files, the tags and the durations, so every fork or CI
+ * node given the same inputs computes the same plan and runs a disjoint part of it.
+ */
+public final class ShardPlanner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardPlanner.class);
+
+    private ShardPlanner() {
+    }
+
+    /**
+     * The scenarios (each example row of a Scenario Outline counting as one) in the .feature files under the directory
+     * that match the Cucumber tag expression (blank for all), in file and line order.
+     */
+    public static List<FeatureScenario> discoverScenarios(Path featureDirectory, String tagExpression) {
+        return FeatureFiles.filter(FeatureFiles.scan(featureDirectory), tagExpression);
+    }
+
+    /**
+     * Assigns the scenarios to the given number of shards using their recorded durations.
+     */
+    public static ShardPlan plan(List<FeatureScenario> scenarios, ScenarioDurations durations, int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1 but was " + shardCount);
+        }
+        int count = scenarios.size();
+        long[] estimates = new long[count];
+        boolean[] fromHistory = new boolean[count];
+        List<Long> known = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            estimates[i] = durations.averageNanos(scenarios.get(i).getKey());
+            fromHistory[i] = estimates[i] >= 0;
+            if (fromHistory[i]) {
+                known.add(estimates[i]);
+            }
+        }
+        long fallback = known.isEmpty() ? 1 : median(known);
+        for (int i = 0; i < count; i++) {
+            if (!fromHistory[i]) {
+                estimates[i] = fallback;
+            }
+        }
+
+        // Longest first; ties keep file order so the plan is the same on every node
+        Integer[] order = new Integer[count];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, Comparator.comparingLong((Integer i) -> estimates[i]).reversed().thenComparingInt(i -> i));
+        long[] loads = new long[shardCount];
+        PriorityQueue<Integer> leastLoaded = new PriorityQueue<>(
+                Comparator.comparingLong((Integer shard) -> loads[shard]).thenComparingInt(shard -> shard));
+        for (int shard = 0; shard < shardCount; shard++) {
+            leastLoaded.add(shard);
+        }
+        int[] assignment = new int[count];
+        for (int scenario : order) {
+            int shard = leastLoaded.poll();
+            assignment[scenario] = shard;
+            loads[shard] += estimates[scenario];
+            leastLoaded.add(shard);
+        }
+
+        List<ShardPlan.Shard> shards = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            shards.add(new ShardPlan.Shard(shard));
+        }
+        for (int i = 0; i < count; i++) { // Each shard runs its scenarios in file order
+            shards.get(assignment[i]).add(scenarios.get(i).getLocation(), estimates[i], fromHistory[i]);
+        }
+        ShardPlan plan = new ShardPlan(shards);
+        logger.info("Planned {} scenarios ({} with history) into {}", count, known.size(), plan.summary());
+        return plan;
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = values.stream().sorted().collect(Collectors.toList());
+        return sorted.get(sorted.size() / 2);
+    }
+}
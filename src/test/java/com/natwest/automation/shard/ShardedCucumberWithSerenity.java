@@ -0,0 +1,94 @@
+// src/test/java/com/natwest/automation/shard/ShardedCucumberWithSerenity.java
+package com.natwest.automation.shard;
+
+import com.natwest.automation.config.ApiConfig;
+import com.natwest.automation.utils.FeatureScenario;
+import net.serenitybdd.cucumber.CucumberWithSerenity;
+import org.junit.runners.model.InitializationError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Serenity Cucumber runner that only runs one shard of the scenarios.
+ * Before Cucumber reads its options, the shard plan is computed and this JVM's part of it is passed
+ * on through the cucumber.features system property, as feature paths with scenario lines. Only scenarios
+ * matching cucumber.filter.tags are planned, so that excluded ones do not take up a shard's estimated time.
+ * <ul>
+ *   <li>shard.count - number of shards (default 1, i.e. everything)</li>
+ *   <li>shard.index - zero-based shard to run in this JVM (default 0)</li>
+ *   <li>shard.durations - durations file, or comma-separated Cucumber JSON reports or directories holding them
+ *       (default shard-durations.json, which is committed so that every node plans from the same input)</li>
+ *   <li>shard.features.dir - feature directory to split (default src/test/resources/features)</li>
+ *   <li>shard.max.imbalance - imbalance above which a warning is logged (default 0.1)</li>
+ * </ul>
+ * Each shard writes its Cucumber reports to target/cucumber-reports/shard-&lt;index&gt;-of-&lt;count&gt; and its Serenity
+ * outcomes to the shared output directory, where the aggregate task merges them into one report. The shard
+ * directories are never read by the plan itself, since each node would have only its own; they are merged into
+ * the durations file by ScenarioDurations once all shards have finished.
+ */
+public class ShardedCucumberWithSerenity extends CucumberWithSerenity {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardedCucumberWithSerenity.class);
+    // Name filter that matches no scenario, for a shard that was assigned none
+    private static final String MATCH_NOTHING = "(?!)";
+
+    public ShardedCucumberWithSerenity(Class clazz) throws InitializationError {
+        super(selectShard(clazz));
+    }
+
+    private static Class selectShard(Class clazz) {
+        int count = ApiConfig.intProperty("shard.count", 1);
+        int index = ApiConfig.intProperty("shard.index", 0);
+        Path featureDirectory = Paths.get(System.getProperty("shard.features.dir", "src/test/resources/features"));
+        List<FeatureScenario> scenarios = ShardPlanner.discoverScenarios(featureDirectory, System.getProperty("cucumber.filter.tags", ""));
+        ScenarioDurations durations = ScenarioDurations.fromReports(System.getProperty("shard.durations", "shard-durations.json"), false, scenarios);
+        ShardPlan plan = ShardPlanner.plan(scenarios, durations, count);
+        plan.verifyCovers(scenarios.stream().map(FeatureScenario::getLocation).collect(Collectors.toList()));
+        ShardPlan.Shard shard = plan.get(index);
+        double maxImbalance = ApiConfig.doubleProperty("shard.max.imbalance", 0.1);
+        if (plan.imbalance() > maxImbalance) {
+            logger.warn("Slowest shard is expected to take {}% longer than the mean, above the {}% limit; "
+                    + "a fresher durations file or fewer shards would even it out",
+                    String.format(Locale.ROOT, "%.1f", plan.imbalance() * 100), String.format(Locale.ROOT, "%.0f", maxImbalance * 100));
+        } else {
+            logger.info("Slowest shard is expected to take {}% longer than the mean, within the {}% limit",
+                    String.format(Locale.ROOT, "%.1f", plan.imbalance() * 100), String.format(Locale.ROOT, "%.0f", maxImbalance * 100));
+        }
+
+        String reportDirectory = "target/cucumber-reports/shard-" + index + "-of-" + count;
+        if (shard.isEmpty()) {
+            System.setProperty("cucumber.features", featureDirectory.toString());
+            System.setProperty("cucumber.filter.name", MATCH_NOTHING);
+        } else {
+            System.setProperty("cucumber.features", shard.toFeaturesArgument());
+        }
+        System.setProperty("cucumber.plugin", "html:" + reportDirectory + "/cucumber-html-report.html,"
+                + "json:" + reportDirectory + "/cucumber.json,"
+                + "junit:" + reportDirectory + "/cucumber.xml");
+        writePlan(Paths.get(reportDirectory, "shard-plan.txt"), plan, shard);
+        logger.info("Running shard {} of {}: {} of {} scenarios, plan {}", index, count, shard.getScenarios().size(),
+                scenarios.size(), plan.fingerprint());
+        return clazz;
+    }
+
+    private static void writePlan(Path file, ShardPlan plan, ShardPlan.Shard shard) {
+        StringBuilder content = new StringBuilder(plan.summary());
+        content.append(System.lineSeparator()).append("Scenarios in shard ").append(shard.getIndex()).append(':').append(System.lineSeparator());
+        shard.getScenarios().forEach(scenario -> content.append("  ").append(scenario).append(System.lineSeparator()));
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.warn("Failed to write shard plan to {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,199 @@
+// src/test/java/com/natwest/automation/soak/JvmSampler.java
+package com.natwest.automation.soak;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Samples the client JVM through its management beans: collection count and time, longest GC pause,
+ * heap use and live thread count. Counts and times are deltas since the previous sample.
+ * <p>
+ * Pause lengths come from the GC notifications of every collector. Collectors that report concurrent cycles
+ * rather than pauses ("G1 Concurrent GC", "ZGC Cycles", "Shenandoah Cycles") count towards GC time but not
+ * towards the longest pause. The same notifications give the heap left after each collection, the best view
+ * of the live set; the lowest value of an interval is kept, so a steady rise across intervals means a leak.
+ */
+public class JvmSampler {
+
+    private static final Logger logger = LoggerFactory.getLogger(JvmSampler.class);
+    private static final long NONE = -1;
+
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final Set<String> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .map(MemoryPoolMXBean::getName)
+            .collect(Collectors.toSet());
+    private final AtomicLong maxPauseMillis = new AtomicLong();
+    private final AtomicLong minHeapAfterGc = new AtomicLong(NONE);
+    private final NotificationListener listener = this::onGc;
+    private long lastCount;
+    private long lastTimeMillis;
+    private long lastHeapAfterGc;
+
+    /**
+     * Subscribes to GC notifications and takes the counters as they are now, so the first sample only covers
+     * what happens from here on.
+     */
+    public void start() {
+        for (GarbageCollectorMXBean collector : collectors) {
+            if (collector instanceof NotificationEmitter) {
+                ((NotificationEmitter) collector).addNotificationListener(listener, null, null);
+            }
+        }
+        lastCount = totalCount();
+        lastTimeMillis = totalTimeMillis();
+    }
+
+    /**
+     * Removes the GC notification listeners.
+     */
+    public void stop() {
+        for (GarbageCollectorMXBean collector : collectors) {
+            if (collector instanceof NotificationEmitter) {
+                try {
+                    ((NotificationEmitter) collector).removeNotificationListener(listener);
+                } catch (Exception e) {
+                    logger.debug("Could not remove GC listener from {}", collector.getName(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Takes one sample and starts the next interval.
+     */
+    public synchronized Sample sample() {
+        long count = totalCount();
+        long timeMillis = totalTimeMillis();
+        long heapAfterGc = minHeapAfterGc.getAndSet(NONE);
+        if (heapAfterGc == NONE) {
+            heapAfterGc = lastHeapAfterGc; // No collection in this interval; the live set is as it was
+        }
+        lastHeapAfterGc = heapAfterGc;
+        MemoryUsage heap = memory.getHeapMemoryUsage();
+        Sample sample = new Sample(count - lastCount, timeMillis - lastTimeMillis, maxPauseMillis.getAndSet(0),
+                heap.getUsed(), heapAfterGc, heap.getCommitted(), threads.getThreadCount());
+        lastCount = count;
+        lastTimeMillis = timeMillis;
+        return sample;
+    }
+
+    private void onGc(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        if (isPause(info.getGcName())) {
+            maxPauseMillis.accumulateAndGet(info.getGcInfo().getDuration(), Math::max);
+        }
+        long heapAfter = heapUsed(info.getGcInfo().getMemoryUsageAfterGc());
+        minHeapAfterGc.accumulateAndGet(heapAfter, (current, next) -> current == NONE ? next : Math.min(current, next));
+    }
+
+    private long heapUsed(Map<String, MemoryUsage> pools) {
+        long used = 0;
+        for (Map.Entry<String, MemoryUsage> pool : pools.entrySet()) {
+            if (heapPools.contains(pool.getKey())) {
+                used += pool.getValue().getUsed();
+            }
+        }
+        return used;
+    }
+
+    private static boolean isPause(String gcName) {
+        return !gcName.contains("Concurrent") && !gcName.contains("Cycles");
+    }
+
+    private long totalCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            total += Math.max(0, collector.getCollectionCount());
+        }
+        return total;
+    }
+
+    private long totalTimeMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            total += Math.max(0, collector.getCollectionTime());
+        }
+        return total;
+    }
+
+    /**
+     * One interval of JVM activity. Memory figures are in bytes.
+     */
+    public static class Sample {
+
+        private final long gcCount;
+        private final long gcTimeMillis;
+        private final long maxPauseMillis;
+        private final long heapUsed;
+        private final long heapAfterGc;
+        private final long heapCommitted;
+        private final int threadCount;
+
+        public Sample(long gcCount, long gcTimeMillis, long maxPauseMillis, long heapUsed, long heapAfterGc,
+                      long heapCommitted, int threadCount) {
+            this.gcCount = gcCount;
+            this.gcTimeMillis = gcTimeMillis;
+            this.maxPauseMillis = maxPauseMillis;
+            this.heapUsed = heapUsed;
+            this.heapAfterGc = heapAfterGc;
+            this.heapCommitted = heapCommitted;
+            this.threadCount = threadCount;
+        }
+
+        public long getGcCount() {
+            return gcCount;
+        }
+
+        public long getGcTimeMillis() {
+            return gcTimeMillis;
+        }
+
+        public long getMaxPauseMillis() {
+            return maxPauseMillis;
+        }
+
+        public long getHeapUsed() {
+            return heapUsed;
+        }
+
+        /**
+         * Lowest heap use right after a collection in this interval, or the previous interval's value if none ran;
+         * 0 until the first collection.
+         */
+        public long getHeapAfterGc() {
+            return heapAfterGc;
+        }
+
+        public long getHeapCommitted() {
+            return heapCommitted;
+        }
+
+        public int getThreadCount() {
+            return threadCount;
+        }
+    }
+}
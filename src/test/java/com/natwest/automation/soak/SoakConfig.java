@@ -0,0 +1,124 @@
+// src/test/java/com/natwest/automation/soak/SoakConfig.java
+package com.natwest.automation.soak;
+
+import com.natwest.automation.config.ApiConfig;
+import com.natwest.automation.load.LoadConfig;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Settings for a soak run, read from system properties. The load itself is described by the load.* properties
+ * (see LoadConfig), with defaults suited to running for hours: 4 users paced to 5 requests per second in total,
+ * and a 60 second warm-up that is left out of the baseline.
+ * <ul>
+ *   <li>soak.duration.minutes - how long to run after the warm-up (default 60)</li>
+ *   <li>soak.sample.seconds - interval between two rows of the time series (default 30)</li>
+ *   <li>soak.window.fraction - share of the run used as the baseline window at the start and the final window
+ *       at the end when checking for drift (default 0.1)</li>
+ *   <li>soak.drift.percentile - latency percentile compared between the two windows (default 95)</li>
+ *   <li>soak.max.latency.drift - fail if that percentile in the final window is more than this many times the
+ *       baseline, for any endpoint (default 1.5)</li>
+ *   <li>soak.max.heap.growth.mb.per.hour - fail if heap used after GC grows faster than this (default 50)</li>
+ *   <li>soak.max.thread.growth - fail if the final window has this many more live threads than the baseline (default 10)</li>
+ *   <li>soak.output.dir - directory for timeseries.csv and verdict.json (default target/soak)</li>
+ * </ul>
+ */
+public class SoakConfig {
+
+    private final LoadConfig load;
+    private final long sampleSeconds;
+    private final double windowFraction;
+    private final double driftPercentile;
+    private final double maxLatencyDrift;
+    private final double maxHeapGrowthMbPerHour;
+    private final int maxThreadGrowth;
+    private final Path outputDir;
+
+    public SoakConfig(LoadConfig load, long sampleSeconds, double windowFraction, double driftPercentile,
+                      double maxLatencyDrift, double maxHeapGrowthMbPerHour, int maxThreadGrowth, Path outputDir) {
+        if (sampleSeconds < 1) {
+            throw new IllegalArgumentException("soak.sample.seconds must be at least 1 but was " + sampleSeconds);
+        }
+        if (windowFraction <= 0 || windowFraction > 0.5) {
+            throw new IllegalArgumentException("soak.window.fraction must be above 0 and at most 0.5 but was " + windowFraction);
+        }
+        this.load = load;
+        this.sampleSeconds = sampleSeconds;
+        this.windowFraction = windowFraction;
+        this.driftPercentile = driftPercentile;
+        this.maxLatencyDrift = maxLatencyDrift;
+        this.maxHeapGrowthMbPerHour = maxHeapGrowthMbPerHour;
+        this.maxThreadGrowth = maxThreadGrowth;
+        this.outputDir = outputDir;
+    }
+
+    /**
+     * Builds the configuration from system properties.
+     */
+    public static SoakConfig fromSystemProperties() {
+        LoadConfig load = new LoadConfig(
+                ApiConfig.intProperty("load.users", 4),
+                ApiConfig.doubleProperty("load.rate", 5),
+                ApiConfig.intProperty("load.rate.max.catchup", 10),
+                TimeUnit.MINUTES.toSeconds(ApiConfig.longProperty("soak.duration.minutes", 60)),
+                ApiConfig.longProperty("load.warmup.seconds", 60),
+                System.getProperty("load.tags", LoadConfig.DEFAULT_TAGS),
+                System.getProperty("load.features", "classpath:features"),
+                ApiConfig.doubleProperty("load.max.error.rate", 1.0));
+        return new SoakConfig(load,
+                ApiConfig.longProperty("soak.sample.seconds", 30),
+                ApiConfig.doubleProperty("soak.window.fraction", 0.1),
+                ApiConfig.doubleProperty("soak.drift.percentile", 95),
+                ApiConfig.doubleProperty("soak.max.latency.drift", 1.5),
+                ApiConfig.doubleProperty("soak.max.heap.growth.mb.per.hour", 50),
+                ApiConfig.intProperty("soak.max.thread.growth", 10),
+                Paths.get(System.getProperty("soak.output.dir", "target/soak")));
+    }
+
+    public LoadConfig getLoad() {
+        return load;
+    }
+
+    public long getSampleSeconds() {
+        return sampleSeconds;
+    }
+
+    /**
+     * Number of samples in the baseline window and in the final window.
+     */
+    public int windowSamples() {
+        return (int) Math.max(1, Math.round(load.getDurationSeconds() * windowFraction / sampleSeconds));
+    }
+
+    public double getDriftPercentile() {
+        return driftPercentile;
+    }
+
+    public double getMaxLatencyDrift() {
+        return maxLatencyDrift;
+    }
+
+    public double getMaxHeapGrowthMbPerHour() {
+        return maxHeapGrowthMbPerHour;
+    }
+
+    public int getMaxThreadGrowth() {
+        return maxThreadGrowth;
+    }
+
+    public Path getOutputDir() {
+        return outputDir;
+    }
+
+    @Override
+    public String toString() {
+        return load
+                + ", sample=" + sampleSeconds + "s"
+                + ", window=" + windowSamples() + " samples"
+                + ", max p" + (int) driftPercentile + " drift=" + maxLatencyDrift + "x"
+                + ", max heap growth=" + maxHeapGrowthMbPerHour + " MB/h"
+                + ", max thread growth=" + maxThreadGrowth;
+    }
+}
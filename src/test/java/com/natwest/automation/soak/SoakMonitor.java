@@ -0,0 +1,297 @@
+// src/test/java/com/natwest/automation/soak/SoakMonitor.java
+package com.natwest.automation.soak;
+
+import com.natwest.automation.metrics.EndpointMetrics;
+import com.natwest.automation.metrics.EndpointStats;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples latency and JVM state at a fixed interval during a soak run and appends them to a time series:
+ * <pre>
+ * timestamp_ms,elapsed_s,endpoint,requests,errors,p50_ms,p95_ms,p99_ms,max_ms,gc_count,gc_time_ms,gc_max_pause_ms,heap_used_mb,heap_after_gc_mb,heap_committed_mb,threads
+ * 1717065630123,30.0,all,148,0,41.2,88.1,120.3,131.0,3,12,6,61.4,22.0,256.0,41
+ * 1717065630123,30.0,POST /objects,50,0,45.0,90.2,121.0,131.0,3,12,6,61.4,22.0,256.0,41
+ * </pre>
+ * Each interval has an "all" row followed by one row per endpoint; latencies cover only that interval, and the
+ * JVM columns repeat on every row of the interval so the file can be filtered by endpoint and still line up.
+ * <p>
+ * Interval latencies are the difference between two copies of each endpoint's cumulative histogram.
+ * Intervals inside the warm-up are written but not used for the verdict; after the warm-up reset of
+ * EndpointMetrics an endpoint's next interval starts from its zeroed statistics. Intervals are also merged into a baseline window
+ * at the start of the measured run and a final window at its end, so memory stays flat however long the run.
+ */
+public class SoakMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SoakMonitor.class);
+    static final String ALL = "all";
+    private static final String HEADER = "timestamp_ms,elapsed_s,endpoint,requests,errors,p50_ms,p95_ms,p99_ms,max_ms,"
+            + "gc_count,gc_time_ms,gc_max_pause_ms,heap_used_mb,heap_after_gc_mb,heap_committed_mb,threads";
+    private static final double MB = 1024.0 * 1024.0;
+
+    private final SoakConfig config;
+    private final JvmSampler jvm = new JvmSampler();
+    private final Map<String, Snapshot> previous = new HashMap<>();
+    private final Map<String, Histogram> baseline = new TreeMap<>();
+    private final Map<String, Histogram> finalWindow = new TreeMap<>();
+    private final HeapTrend heapTrend = new HeapTrend();
+    private ScheduledExecutorService scheduler;
+    private BufferedWriter csv;
+    private long startNanos;
+    private long measureStartNanos;
+    private int measuredSamples;
+    private int baselineMaxThreads;
+    private int finalMaxThreads;
+    private long maxPauseMillis;
+    private long gcTimeMillis;
+
+    public SoakMonitor(SoakConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Opens the time series and starts sampling every soak.sample.seconds.
+     */
+    public void start() throws IOException {
+        Path file = config.getOutputDir().resolve("timeseries.csv");
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        csv = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        csv.write(HEADER);
+        csv.newLine();
+        csv.flush();
+        jvm.start();
+        startNanos = System.nanoTime();
+        measureStartNanos = startNanos + TimeUnit.SECONDS.toNanos(config.getLoad().getWarmupSeconds());
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "soak-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = config.getSampleSeconds();
+        scheduler.scheduleAtFixedRate(this::sampleQuietly, interval, interval, TimeUnit.SECONDS);
+        logger.info("Soak monitor writing a sample every {}s to {}", interval, file);
+    }
+
+    /**
+     * Stops sampling, records the last partial interval and closes the time series.
+     */
+    public void stop() throws InterruptedException, IOException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(1, TimeUnit.MINUTES);
+        sample();
+        jvm.stop();
+        csv.close();
+    }
+
+    private void sampleQuietly() {
+        try {
+            sample();
+        } catch (IOException | RuntimeException e) {
+            // A failed sample must not cancel the schedule; the next one may well succeed
+            logger.warn("Soak sample failed", e);
+        }
+    }
+
+    /**
+     * Takes one sample of every endpoint and of the JVM, writes its rows and adds it to the windows.
+     */
+    synchronized void sample() throws IOException {
+        long now = System.nanoTime();
+        JvmSampler.Sample jvmSample = jvm.sample();
+        Map<String, Interval> intervals = new TreeMap<>();
+        Interval all = new Interval(new Histogram(3), 0);
+        for (EndpointStats stats : EndpointMetrics.all()) {
+            Interval interval = interval(stats);
+            intervals.put(stats.getEndpoint(), interval);
+            all.latencyMicros.add(interval.latencyMicros);
+            all.errors += interval.errors;
+        }
+        long timestamp = System.currentTimeMillis();
+        double elapsedSeconds = (now - startNanos) / 1e9;
+        writeRow(timestamp, elapsedSeconds, ALL, all, jvmSample);
+        for (Map.Entry<String, Interval> entry : intervals.entrySet()) {
+            writeRow(timestamp, elapsedSeconds, entry.getKey(), entry.getValue(), jvmSample);
+        }
+        csv.flush(); // Keep the file usable if a run of several hours is killed
+        if (now >= measureStartNanos) {
+            intervals.put(ALL, all);
+            addToWindows(now, intervals, jvmSample);
+        }
+    }
+
+    private Interval interval(EndpointStats stats) {
+        int resetCount = stats.getResetCount(); // Read before the copy, so a reset in between shows up next time
+        Histogram current = stats.histogramCopy();
+        long errors = stats.getErrors();
+        Snapshot last = previous.put(stats.getEndpoint(), new Snapshot(resetCount, current, errors));
+        if (last == null || last.resetCount != resetCount) {
+            return new Interval(current, errors); // First sample, or EndpointMetrics was reset since the last one
+        }
+        Histogram interval = current.copy();
+        interval.subtract(last.latencyMicros);
+        return new Interval(interval, errors - last.errors);
+    }
+
+    private void addToWindows(long now, Map<String, Interval> intervals, JvmSampler.Sample jvmSample) {
+        measuredSamples++;
+        long sampleNanos = TimeUnit.SECONDS.toNanos(config.getSampleSeconds());
+        long expectedSamples = Math.max(1, (TimeUnit.SECONDS.toNanos(config.getLoad().getDurationSeconds()) + sampleNanos - 1) / sampleNanos);
+        if (measuredSamples <= config.windowSamples()) {
+            merge(baseline, intervals);
+            baselineMaxThreads = Math.max(baselineMaxThreads, jvmSample.getThreadCount());
+        } else if (measuredSamples > expectedSamples - config.windowSamples()) {
+            merge(finalWindow, intervals);
+            finalMaxThreads = Math.max(finalMaxThreads, jvmSample.getThreadCount());
+        }
+        if (jvmSample.getHeapAfterGc() > 0) {
+            heapTrend.add((now - measureStartNanos) / 3.6e12, jvmSample.getHeapAfterGc() / MB);
+        }
+        maxPauseMillis = Math.max(maxPauseMillis, jvmSample.getMaxPauseMillis());
+        gcTimeMillis += jvmSample.getGcTimeMillis();
+    }
+
+    private static void merge(Map<String, Histogram> window, Map<String, Interval> intervals) {
+        for (Map.Entry<String, Interval> entry : intervals.entrySet()) {
+            window.computeIfAbsent(entry.getKey(), endpoint -> new Histogram(3)).add(entry.getValue().latencyMicros);
+        }
+    }
+
+    private void writeRow(long timestamp, double elapsedSeconds, String endpoint, Interval interval,
+                          JvmSampler.Sample jvmSample) throws IOException {
+        Histogram latency = interval.latencyMicros;
+        csv.write(String.format(Locale.ROOT, "%d,%.1f,%s,%d,%d,%.1f,%.1f,%.1f,%.1f,%d,%d,%d,%.1f,%.1f,%.1f,%d",
+                timestamp, elapsedSeconds, endpoint, latency.getTotalCount(), interval.errors,
+                latency.getValueAtPercentile(50) / 1000.0, latency.getValueAtPercentile(95) / 1000.0,
+                latency.getValueAtPercentile(99) / 1000.0, latency.getMaxValue() / 1000.0,
+                jvmSample.getGcCount(), jvmSample.getGcTimeMillis(), jvmSample.getMaxPauseMillis(),
+                jvmSample.getHeapUsed() / MB, jvmSample.getHeapAfterGc() / MB, jvmSample.getHeapCommitted() / MB,
+                jvmSample.getThreadCount()));
+        csv.newLine();
+    }
+
+    /**
+     * Latencies (microseconds) of the baseline window per endpoint, plus "all".
+     */
+    public synchronized Map<String, Histogram> getBaseline() {
+        return baseline;
+    }
+
+    /**
+     * Latencies (microseconds) of the final window per endpoint, plus "all".
+     */
+    public synchronized Map<String, Histogram> getFinalWindow() {
+        return finalWindow;
+    }
+
+    public synchronized int getMeasuredSamples() {
+        return measuredSamples;
+    }
+
+    public synchronized HeapTrend getHeapTrend() {
+        return heapTrend;
+    }
+
+    public synchronized int getBaselineMaxThreads() {
+        return baselineMaxThreads;
+    }
+
+    public synchronized int getFinalMaxThreads() {
+        return finalMaxThreads;
+    }
+
+    public synchronized long getMaxPauseMillis() {
+        return maxPauseMillis;
+    }
+
+    public synchronized long getGcTimeMillis() {
+        return gcTimeMillis;
+    }
+
+    private static class Snapshot {
+
+        private final int resetCount;
+        private final Histogram latencyMicros;
+        private final long errors;
+
+        private Snapshot(int resetCount, Histogram latencyMicros, long errors) {
+            this.resetCount = resetCount;
+            this.latencyMicros = latencyMicros;
+            this.errors = errors;
+        }
+    }
+
+    private static class Interval {
+
+        private final Histogram latencyMicros;
+        private long errors;
+
+        private Interval(Histogram latencyMicros, long errors) {
+            this.latencyMicros = latencyMicros;
+            this.errors = errors;
+        }
+    }
+
+    /**
+     * Least-squares line through heap used after GC (MB) against measured run time (hours).
+     * Only running sums are kept.
+     */
+    public static class HeapTrend {
+
+        private int count;
+        private double sumX;
+        private double sumY;
+        private double sumXY;
+        private double sumXX;
+        private double firstMb = Double.NaN;
+        private double lastMb = Double.NaN;
+
+        void add(double hours, double megabytes) {
+            count++;
+            sumX += hours;
+            sumY += megabytes;
+            sumXY += hours * megabytes;
+            sumXX += hours * hours;
+            if (count == 1) {
+                firstMb = megabytes;
+            }
+            lastMb = megabytes;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * Growth in MB per hour, or NaN with fewer than three points.
+         */
+        public double slopeMbPerHour() {
+            double denominator = count * sumXX - sumX * sumX;
+            if (count < 3 || denominator <= 0) {
+                return Double.NaN;
+            }
+            return (count * sumXY - sumX * sumY) / denominator;
+        }
+
+        public double getFirstMb() {
+            return firstMb;
+        }
+
+        public double getLastMb() {
+            return lastMb;
+        }
+    }
+}
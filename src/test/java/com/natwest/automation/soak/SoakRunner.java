@@ -0,0 +1,39 @@
+// src/test/java/com/natwest/automation/soak/SoakRunner.java
+package com.natwest.automation.soak;
+
+import com.natwest.automation.load.LoadRunner;
+
+/**
+ * Runs the create, get and delete scenarios for hours through LoadRunner while SoakMonitor samples
+ * latency and the client JVM (GC, heap, threads) into target/soak/timeseries.csv. At the end, SoakVerdict
+ * checks latency drift, heap growth and thread growth against their thresholds and writes target/soak/verdict.json.
+ * The exit code is 0 only if the load run stayed within its error budget and every soak check passed.
+ * <p>
+ * Run with: ./gradlew soakTest -Dsoak.duration.minutes=240 -Dload.rate=10
+ */
+public class SoakRunner {
+
+    public static void main(String[] args) throws Exception {
+        boolean teardown = LoadRunner.prepareForLoad();
+        SoakConfig config = SoakConfig.fromSystemProperties();
+        System.out.println("Starting soak run with " + config);
+
+        SoakMonitor monitor = new SoakMonitor(config);
+        monitor.start();
+        int loadExitCode;
+        try {
+            loadExitCode = new LoadRunner(config.getLoad()).run();
+        } finally {
+            monitor.stop();
+        }
+
+        SoakVerdict verdict = SoakVerdict.evaluate(config, monitor);
+        verdict.print(System.out);
+        verdict.write(config.getOutputDir().resolve("verdict.json"));
+        System.out.println("Time series: " + config.getOutputDir().resolve("timeseries.csv"));
+        if (teardown) {
+            LoadRunner.deleteCreatedObjects();
+        }
+        System.exit(loadExitCode == 0 && verdict.passed() ? 0 : 1);
+    }
+}
@@ -0,0 +1,191 @@
+// src/test/java/com/natwest/automation/soak/SoakVerdict.java
+package com.natwest.automation.soak;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * End-of-run checks of a soak run against its thresholds:
+ * <ul>
+ *   <li>latency drift - the configured percentile of the final window divided by that of the baseline window,
+ *       for all requests together and for each endpoint</li>
+ *   <li>heap growth - slope of heap used after GC over the measured run, in MB per hour</li>
+ *   <li>thread growth - most live threads in the final window minus most in the baseline window</li>
+ * </ul>
+ * A check is skipped rather than failed when the run did not produce enough data for it, e.g. an endpoint with
+ * fewer than MIN_WINDOW_REQUESTS requests in a window, or fewer than three samples taken after a collection.
+ */
+public class SoakVerdict {
+
+    static final int MIN_WINDOW_REQUESTS = 20;
+
+    private final List<Check> checks = new ArrayList<>();
+    private final SoakMonitor monitor;
+
+    private SoakVerdict(SoakMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    /**
+     * Evaluates every check on what the monitor collected.
+     */
+    public static SoakVerdict evaluate(SoakConfig config, SoakMonitor monitor) {
+        SoakVerdict verdict = new SoakVerdict(monitor);
+        double percentile = config.getDriftPercentile();
+        String label = "p" + (percentile == Math.rint(percentile) ? Integer.toString((int) percentile) : Double.toString(percentile));
+        Map<String, Histogram> finalWindow = monitor.getFinalWindow();
+        for (Map.Entry<String, Histogram> entry : monitor.getBaseline().entrySet()) {
+            String name = label + " drift " + entry.getKey();
+            Histogram before = entry.getValue();
+            Histogram after = finalWindow.get(entry.getKey());
+            if (after == null || before.getTotalCount() < MIN_WINDOW_REQUESTS || after.getTotalCount() < MIN_WINDOW_REQUESTS) {
+                verdict.skip(name, "x", config.getMaxLatencyDrift(), "fewer than " + MIN_WINDOW_REQUESTS + " requests in a window");
+                continue;
+            }
+            double baselineMillis = Math.max(1, before.getValueAtPercentile(percentile)) / 1000.0;
+            double finalMillis = after.getValueAtPercentile(percentile) / 1000.0;
+            verdict.check(name, finalMillis / baselineMillis, "x", config.getMaxLatencyDrift(),
+                    String.format(Locale.ROOT, "%.1f ms -> %.1f ms", baselineMillis, finalMillis));
+        }
+        if (monitor.getBaseline().isEmpty()) {
+            verdict.skip("latency drift", "x", config.getMaxLatencyDrift(), "no requests measured");
+        }
+
+        SoakMonitor.HeapTrend heap = monitor.getHeapTrend();
+        double slope = heap.slopeMbPerHour();
+        if (Double.isNaN(slope)) {
+            verdict.skip("heap growth after GC", "MB/h", config.getMaxHeapGrowthMbPerHour(), "fewer than 3 samples after a collection");
+        } else {
+            verdict.check("heap growth after GC", slope, "MB/h", config.getMaxHeapGrowthMbPerHour(),
+                    String.format(Locale.ROOT, "%.1f MB -> %.1f MB over %d samples", heap.getFirstMb(), heap.getLastMb(), heap.getCount()));
+        }
+
+        if (monitor.getFinalMaxThreads() == 0) {
+            verdict.skip("thread growth", "", config.getMaxThreadGrowth(), "run too short for a final window");
+        } else {
+            verdict.check("thread growth", monitor.getFinalMaxThreads() - monitor.getBaselineMaxThreads(), "", config.getMaxThreadGrowth(),
+                    monitor.getBaselineMaxThreads() + " -> " + monitor.getFinalMaxThreads() + " threads");
+        }
+        return verdict;
+    }
+
+    private void check(String name, double measured, String unit, double limit, String detail) {
+        checks.add(new Check(name, measured, unit, limit, measured <= limit ? Check.PASSED : Check.FAILED, detail));
+    }
+
+    private void skip(String name, String unit, double limit, String reason) {
+        checks.add(new Check(name, Double.NaN, unit, limit, Check.SKIPPED, reason));
+    }
+
+    /**
+     * True if no check failed.
+     */
+    public boolean passed() {
+        return checks.stream().noneMatch(check -> Check.FAILED.equals(check.status));
+    }
+
+    public List<Check> getChecks() {
+        return checks;
+    }
+
+    /**
+     * Prints one line per check and the overall result.
+     */
+    public void print(PrintStream out) {
+        out.println();
+        out.printf(Locale.ROOT, "Soak verdict: %s (%d measured samples, longest GC pause %d ms, GC time %d ms)%n",
+                passed() ? "PASSED" : "FAILED", monitor.getMeasuredSamples(), monitor.getMaxPauseMillis(), monitor.getGcTimeMillis());
+        out.printf(Locale.ROOT, "%-36s %12s %12s %8s  %s%n", "Check", "Measured", "Limit", "Result", "Detail");
+        for (Check check : checks) {
+            out.printf(Locale.ROOT, "%-36s %12s %12s %8s  %s%n", check.name,
+                    Double.isNaN(check.measured) ? "-" : String.format(Locale.ROOT, "%.2f %s", check.measured, check.unit).trim(),
+                    String.format(Locale.ROOT, "%.2f %s", check.limit, check.unit).trim(), check.status, check.detail);
+        }
+    }
+
+    /**
+     * Writes the checks as JSON, creating parent directories as needed.
+     */
+    public void write(Path file) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("passed", passed());
+        root.put("measuredSamples", monitor.getMeasuredSamples());
+        root.put("maxGcPauseMillis", monitor.getMaxPauseMillis());
+        root.put("gcTimeMillis", monitor.getGcTimeMillis());
+        ArrayNode checksNode = root.putArray("checks");
+        for (Check check : checks) {
+            ObjectNode checkNode = checksNode.addObject();
+            checkNode.put("name", check.name);
+            if (Double.isNaN(check.measured)) {
+                checkNode.putNull("measured");
+            } else {
+                checkNode.put("measured", check.measured);
+            }
+            checkNode.put("unit", check.unit);
+            checkNode.put("limit", check.limit);
+            checkNode.put("status", check.status);
+            checkNode.put("detail", check.detail);
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        objectMapper.writeValue(file.toFile(), root);
+    }
+
+    /**
+     * One threshold check: measured value, limit and outcome.
+     */
+    public static class Check {
+
+        static final String PASSED = "PASSED";
+        static final String FAILED = "FAILED";
+        static final String SKIPPED = "SKIPPED";
+
+        private final String name;
+        private final double measured;
+        private final String unit;
+        private final double limit;
+        private final String status;
+        private final String detail;
+
+        Check(String name, double measured, String unit, double limit, String status, String detail) {
+            this.name = name;
+            this.measured = measured;
+            this.unit = unit;
+            this.limit = limit;
+            this.status = status;
+            this.detail = detail;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getMeasured() {
+            return measured;
+        }
+
+        public double getLimit() {
+            return limit;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public String getDetail() {
+            return detail;
+        }
+    }
+}
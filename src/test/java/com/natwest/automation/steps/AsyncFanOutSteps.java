@@ -0,0 +1,138 @@
+// src/test/java/com/natwest/automation/steps/AsyncFanOutSteps.java
+package com.natwest.automation.steps;
+
+import com.natwest.automation.async.AsyncObjectRequests;
+import com.natwest.automation.async.AsyncResponse;
+import com.natwest.automation.context.ScenarioContext;
+import com.natwest.automation.metrics.LatencySummary;
+import com.natwest.automation.model.ObjectData;
+import com.natwest.automation.utils.EncodedBody;
+import com.natwest.automation.utils.JsonUtils;
+import com.natwest.automation.utils.ObjectDataEncoder;
+import com.natwest.automation.utils.ReportData;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Step definitions that send many requests at once through AsyncObjectRequests.
+ * Latencies and status counts are stored like those of "I send {int} GET requests for the stored ID",
+ * so the existing repeated-request and percentile assertions apply to fan-outs too.
+ */
+public class AsyncFanOutSteps {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncFanOutSteps.class);
+
+    /**
+     * Returns the state of the scenario running on the current thread.
+     */
+    private ScenarioContext context() {
+        return ScenarioContext.current();
+    }
+
+    /**
+     * Creates objects named "{name} 1" to "{name} N" concurrently and stores the created IDs.
+     * The IDs are also added to the IDs a streamed list scan looks for.
+     */
+    @When("I POST {int} objects concurrently named {string}")
+    public void iPOSTObjectsConcurrentlyNamed(int count, String name) throws InterruptedException {
+        ObjectData payload = new ObjectData();
+        ObjectData.Data data = new ObjectData.Data();
+        data.setCpuModel("Default CPU");
+        data.setPrice(99.99);
+        payload.setData(data);
+        ObjectDataEncoder.Template template = ObjectDataEncoder.template(payload); // Serialized once, renamed per object
+        List<EncodedBody> bodies = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            bodies.add(template.render(name + " " + i, data.getPrice()));
+        }
+        logger.info("Sending {} concurrent POST requests to /objects", count);
+        List<AsyncResponse> responses = new AsyncObjectRequests(context().getBaseUrl()).createAll(bodies);
+        for (AsyncResponse response : responses) {
+            if (response.getStatusCode() == 200 && response.getObjectId() != null) {
+                context().getConcurrentlyCreatedIds().add(response.getObjectId());
+                context().getExpectedListIds().add(response.getObjectId());
+            }
+        }
+        storeResults("Concurrent POST /objects", responses);
+    }
+
+    /**
+     * Sends N GET requests at once, cycling through the IDs created concurrently in this scenario,
+     * or using the stored object ID if none were.
+     */
+    @When("I send {int} concurrent GET requests for the stored IDs")
+    public void iSendConcurrentGETRequestsForTheStoredIDs(int count) throws InterruptedException {
+        List<String> storedIds = new ArrayList<>(context().getConcurrentlyCreatedIds());
+        if (storedIds.isEmpty() && context().getObjectIdToDeleteOrGet() != null) {
+            storedIds.add(context().getObjectIdToDeleteOrGet());
+        }
+        assertFalse("No stored object IDs to send concurrent GET requests for", storedIds.isEmpty());
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(storedIds.get(i % storedIds.size()));
+        }
+        logger.info("Sending {} concurrent GET requests across {} stored IDs", count, storedIds.size());
+        storeResults("Concurrent GET /objects/{id}", new AsyncObjectRequests(context().getBaseUrl()).getAll(ids));
+    }
+
+    /**
+     * Verifies every response of the last fan-out, listing the ones that differ.
+     */
+    @Then("all concurrent responses should have status code {int}")
+    public void allConcurrentResponsesShouldHaveStatusCode(int expectedStatusCode) {
+        List<AsyncResponse> unexpected = concurrentResponses().stream()
+                .filter(response -> response.getStatusCode() != expectedStatusCode)
+                .collect(Collectors.toList());
+        assertTrue(unexpected.size() + " concurrent responses did not return " + expectedStatusCode + ": " + unexpected,
+                unexpected.isEmpty());
+    }
+
+    /**
+     * Verifies that each GET response of the last fan-out carries the ID it was requested with.
+     */
+    @Then("every concurrent GET response should return the requested object")
+    public void everyConcurrentGETResponseShouldReturnTheRequestedObject() {
+        List<String> mismatches = new ArrayList<>();
+        for (AsyncResponse response : concurrentResponses()) {
+            String returnedId = response.getBody() == null ? null
+                    : JsonUtils.readTree(response.getBody().getBytes(StandardCharsets.UTF_8)).path("id").asText(null);
+            if (!response.getObjectId().equals(returnedId)) {
+                mismatches.add(response + " returned id " + returnedId);
+            }
+        }
+        assertTrue("Concurrent GET responses did not match their requests: " + mismatches, mismatches.isEmpty());
+    }
+
+    private void storeResults(String title, List<AsyncResponse> responses) {
+        Histogram latencyMicros = new Histogram(3);
+        Map<Integer, Integer> statusCounts = new TreeMap<>();
+        for (AsyncResponse response : responses) {
+            latencyMicros.recordValue(response.getDurationMicros());
+            statusCounts.merge(response.getStatusCode(), 1, Integer::sum);
+        }
+        context().setConcurrentResponses(responses);
+        context().setRepeatedRequestLatencies(latencyMicros);
+        context().setRepeatedRequestStatusCounts(statusCounts);
+        logger.info("{}: status codes {}", title, statusCounts);
+        ReportData.record(title + " Latency",
+                () -> LatencySummary.format(latencyMicros) + String.format("%nstatus codes: %s", statusCounts));
+    }
+
+    private List<AsyncResponse> concurrentResponses() {
+        List<AsyncResponse> responses = context().getConcurrentResponses();
+        assertNotNull("No concurrent requests have been sent in this scenario", responses);
+        return responses;
+    }
+}
@@ -0,0 +1,66 @@
+// src/test/java/com/natwest/automation/steps/BulkCreationSteps.java
+package com.natwest.automation.steps;
+
+import com.natwest.automation.bulk.BulkCreationResult;
+import com.natwest.automation.bulk.BulkObjectCreator;
+import com.natwest.automation.context.ScenarioContext;
+import com.natwest.automation.utils.ReportData;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.Assert.*;
+
+/**
+ * Step definitions for creating many objects from a JSON Lines payload file.
+ * Requests are sent outside SerenityRest so that large catalogs do not flood the report;
+ * a single summary is attached instead.
+ */
+public class BulkCreationSteps {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkCreationSteps.class);
+
+    /**
+     * Returns the state of the scenario running on the current thread.
+     */
+    private ScenarioContext context() {
+        return ScenarioContext.current();
+    }
+
+    /**
+     * Streams the records of a JSON Lines file and creates one object per record with bounded concurrency.
+     */
+    @When("I create all objects from payload stream {string} with concurrency {int}")
+    public void iCreateAllObjectsFromPayloadStreamWithConcurrency(String payloadPath, int concurrency) throws InterruptedException {
+        logger.info("Creating objects from {} with concurrency {}", payloadPath, concurrency);
+        BulkCreationResult result = new BulkObjectCreator(context().getBaseUrl(), concurrency).createAll(payloadPath);
+        context().setBulkCreationResult(result);
+        logger.info("Bulk creation summary: {}", result);
+        ReportData.record("Bulk Creation: " + payloadPath, result::summary);
+    }
+
+    /**
+     * Verifies that every record was created and that each response matched its record.
+     */
+    @Then("every object from the payload stream should be created and match its source record")
+    public void everyObjectFromThePayloadStreamShouldBeCreatedAndMatchItsSourceRecord() {
+        BulkCreationResult result = bulkResult();
+        assertTrue("The payload stream contained no records", result.getRecords() > 0);
+        assertEquals("Bulk creation had failures or mismatches:\n" + result.summary(), result.getRecords(), result.getCreated());
+    }
+
+    /**
+     * Verifies the number of records read from the payload stream.
+     */
+    @Then("the payload stream should have contained {int} records")
+    public void thePayloadStreamShouldHaveContainedRecords(int expectedRecords) {
+        assertEquals("Number of records in the payload stream mismatch", expectedRecords, bulkResult().getRecords());
+    }
+
+    private BulkCreationResult bulkResult() {
+        BulkCreationResult result = context().getBulkCreationResult();
+        assertNotNull("No bulk creation has run in this scenario", result);
+        return result;
+    }
+}
@@ -0,0 +1,110 @@
+// src/test/java/com/natwest/automation/steps/LatencySteps.java
+package com.natwest.automation.steps;
+
+import com.natwest.automation.context.ScenarioContext;
+import com.natwest.automation.http.ApiClient;
+import com.natwest.automation.metrics.HttpPhaseTimer;
+import com.natwest.automation.metrics.LatencySummary;
+import com.natwest.automation.utils.ReportData;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Step definitions for response-time checks.
+ * Single responses are checked against their own time; repeated requests are timed into an
+ * HdrHistogram so percentile SLAs can be asserted and attached to the Serenity report.
+ */
+public class LatencySteps {
+
+    private static final Logger logger = LoggerFactory.getLogger(LatencySteps.class);
+
+    /**
+     * Returns the state of the scenario running on the current thread.
+     */
+    private ScenarioContext context() {
+        return ScenarioContext.current();
+    }
+
+    /**
+     * Verifies that the last response arrived within the given number of milliseconds.
+     */
+    @Then("the response time should be under {int} ms")
+    public void theResponseTimeShouldBeUnder(int maxMillis) {
+        Response response = context().getResponse();
+        assertNotNull("A request must be sent before checking its response time", response);
+        long actualMillis = response.getTime();
+        logger.info("Validating response time. Limit: {} ms, Actual: {} ms", maxMillis, actualMillis);
+        ReportData.record("Response Time", () -> actualMillis + " ms (limit " + maxMillis + " ms)");
+        assertTrue("Response time " + actualMillis + " ms exceeded the limit of " + maxMillis + " ms", actualMillis < maxMillis);
+    }
+
+    /**
+     * Sends the given number of sequential GET requests for the stored ID and records their latencies.
+     * Uses plain RestAssured so the report is not flooded with one entry per request. Latencies are those
+     * TimingFilter measured, so rate limit waits and throttled attempts are not counted; replayed exchanges
+     * are not timed and are left out.
+     */
+    @When("I send {int} GET requests for the stored ID")
+    public void iSendGETRequestsForTheStoredID(int requestCount) {
+        String objectId = context().getObjectIdToDeleteOrGet();
+        assertNotNull("Stored object ID must not be null for repeated GET requests", objectId);
+        logger.info("Sending {} GET requests to /objects/{}", requestCount, objectId);
+
+        Histogram latencyMicros = new Histogram(3);
+        Map<Integer, Integer> statusCounts = new TreeMap<>();
+        RequestSpecification request = ApiClient.plainGiven(context().getBaseUrl());
+        Response response = null;
+        for (int i = 0; i < requestCount; i++) {
+            response = request.when().get("/objects/{id}", objectId);
+            long latencyNanos = HttpPhaseTimer.takeLatencyNanos();
+            if (latencyNanos >= 0) {
+                latencyMicros.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+            }
+            statusCounts.merge(response.getStatusCode(), 1, Integer::sum);
+        }
+        context().setResponse(response);
+        context().setRepeatedRequestLatencies(latencyMicros);
+        context().setRepeatedRequestStatusCounts(statusCounts);
+        ReportData.record("Latency of " + requestCount + " GET requests",
+                () -> LatencySummary.format(latencyMicros) + System.lineSeparator() + "status codes: " + statusCounts);
+    }
+
+    /**
+     * Verifies that every one of the repeated requests returned the expected status code.
+     */
+    @Then("all repeated requests should return status code {int}")
+    public void allRepeatedRequestsShouldReturnStatusCode(int expectedStatusCode) {
+        Map<Integer, Integer> statusCounts = context().getRepeatedRequestStatusCounts();
+        assertNotNull("Repeated requests must be sent before checking their status codes", statusCounts);
+        logger.info("Validating repeated request status codes. Expected: {}, Actual: {}", expectedStatusCode, statusCounts);
+        assertEquals("Unexpected status codes among repeated requests: " + statusCounts,
+                1, statusCounts.size());
+        assertTrue("Unexpected status codes among repeated requests: " + statusCounts,
+                statusCounts.containsKey(expectedStatusCode));
+    }
+
+    /**
+     * Verifies a latency percentile (e.g. p95) of the repeated requests against a limit in milliseconds.
+     */
+    @Then("the p{int} latency should be under {int} ms")
+    public void thePercentileLatencyShouldBeUnder(int percentile, int maxMillis) {
+        Histogram latencyMicros = context().getRepeatedRequestLatencies();
+        assertNotNull("Repeated requests must be sent before checking latency percentiles", latencyMicros);
+        assertTrue("None of the repeated requests was timed (replayed exchanges are not)", latencyMicros.getTotalCount() > 0);
+        double actualMillis = latencyMicros.getValueAtPercentile(percentile) / 1000.0;
+        logger.info("Validating p{} latency. Limit: {} ms, Actual: {} ms", percentile, maxMillis, actualMillis);
+        assertTrue("p" + percentile + " latency " + actualMillis + " ms exceeded the limit of " + maxMillis + " ms",
+                actualMillis < maxMillis);
+    }
+}
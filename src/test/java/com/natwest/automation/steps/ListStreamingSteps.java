@@ -0,0 +1,116 @@
+// src/test/java/com/natwest/automation/steps/ListStreamingSteps.java
+package com.natwest.automation.steps;
+
+import com.natwest.automation.context.ScenarioContext;
+import com.natwest.automation.stream.ListScanResult;
+import com.natwest.automation.stream.ObjectListScanner;
+import com.natwest.automation.utils.ReportData;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Step definitions for validating GET /objects list responses in streaming mode.
+ * The list is checked in one pass over the response stream (see ObjectListScanner), so these steps
+ * work for collections far larger than what fits comfortably in memory.
+ */
+public class ListStreamingSteps {
+
+    private static final Logger logger = LoggerFactory.getLogger(ListStreamingSteps.class);
+
+    /**
+     * Returns the state of the scenario running on the current thread.
+     */
+    private ScenarioContext context() {
+        return ScenarioContext.current();
+    }
+
+    /**
+     * Registers IDs that the next streamed list scan should look for, e.g. "1,2,3".
+     */
+    @Given("the streamed list is expected to include the object IDs {string}")
+    public void theStreamedListIsExpectedToIncludeTheObjectIDs(String ids) {
+        context().getExpectedListIds().addAll(splitList(ids));
+        logger.info("Streamed list scan will look for IDs: {}", context().getExpectedListIds());
+    }
+
+    /**
+     * Sends GET /objects and validates the list while it streams in, without buffering the body.
+     */
+    @When("I stream a GET request to list all objects")
+    public void iStreamAGETRequestToListAllObjects() throws IOException, InterruptedException {
+        logger.info("Streaming GET request to /objects");
+        ListScanResult result = new ObjectListScanner(context().getExpectedListIds()).fetchAndScan(context().getBaseUrl());
+        context().setListScanResult(result);
+        logger.info("Streamed list scan: {}", result);
+        ReportData.record("Streamed List Scan", result::toString);
+    }
+
+    /**
+     * Verifies the status code of the streamed list request.
+     */
+    @Then("the streamed list response status code should be {int}")
+    public void theStreamedListResponseStatusCodeShouldBe(int expectedStatusCode) {
+        assertEquals("Status code for streamed list request mismatch", expectedStatusCode, scanResult().getStatusCode());
+    }
+
+    /**
+     * Verifies that the streamed list contains at least a certain number of elements.
+     */
+    @Then("the streamed list should contain at least {int} objects")
+    public void theStreamedListShouldContainAtLeastObjects(int minCount) {
+        ListScanResult result = scanResult();
+        logger.info("Validating streamed list contains at least {} objects. Actual: {}", minCount, result.getElementCount());
+        assertTrue("Streamed list contained " + result.getElementCount() + " objects, expected at least " + minCount,
+                result.getElementCount() >= minCount);
+    }
+
+    /**
+     * Verifies that every element of the streamed list is an object with a non-null value for each listed field.
+     */
+    @Then("every streamed object should have the fields {string}")
+    public void everyStreamedObjectShouldHaveTheFields(String fields) {
+        ListScanResult result = scanResult();
+        assertEquals("Streamed list contained elements that are not JSON objects", 0, result.getNonObjectElements());
+        for (String field : splitList(fields)) {
+            long missing = result.getElementCount() - result.presenceOf(field);
+            assertEquals(missing + " of " + result.getElementCount() + " streamed objects have no value for '" + field + "'",
+                    0, missing);
+        }
+    }
+
+    /**
+     * Verifies that every ID registered beforehand appeared in the streamed list.
+     */
+    @Then("the streamed list should include all expected object IDs")
+    public void theStreamedListShouldIncludeAllExpectedObjectIDs() {
+        ListScanResult result = scanResult();
+        Set<String> missing = new TreeSet<>(result.getExpectedIds());
+        missing.removeAll(result.getFoundIds());
+        assertTrue("Streamed list is missing expected IDs: " + missing, missing.isEmpty());
+    }
+
+    private ListScanResult scanResult() {
+        ListScanResult result = context().getListScanResult();
+        assertNotNull("A streamed list request must be sent before validating its result", result);
+        return result;
+    }
+
+    private static Set<String> splitList(String commaSeparated) {
+        return Arrays.stream(commaSeparated.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -0,0 +1,169 @@
+// src/test/java/com/natwest/automation/steps/ScenarioHooks.java
+package com.natwest.automation.steps;
+
+import com.natwest.automation.cleanup.CreatedObjectRegistry;
+import com.natwest.automation.cleanup.TeardownResult;
+import com.natwest.automation.config.ApiConfig;
+import com.natwest.automation.context.ScenarioContext;
+import com.natwest.automation.fixture.FixtureDemand;
+import com.natwest.automation.fixture.FixturePool;
+import com.natwest.automation.history.LatencyHistory;
+import com.natwest.automation.history.LatencyRegressions;
+import com.natwest.automation.history.RegressionCheck;
+import com.natwest.automation.history.RunLatencies;
+import com.natwest.automation.http.ConnectionMetrics;
+import com.natwest.automation.metrics.ScenarioTimings;
+import com.natwest.automation.utils.FeatureFiles;
+import com.natwest.automation.utils.FeatureScenario;
+import com.natwest.automation.utils.ReportData;
+import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
+import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
+import io.cucumber.java.Scenario;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Cucumber hooks that scope the ScenarioContext to a single scenario.
+ * A fresh context is installed before the first step and dropped after the last hook,
+ * so state never leaks to the next scenario picked up by the same thread.
+ * Each scenario's step and HTTP timings, and the latency trend of its tags and endpoints, are attached to its report.
+ * Suite-wide hooks provision fixture objects up front, and at the end compare latencies with the history,
+ * delete created objects and report HTTP connection reuse. Runners that start many Cucumber runs in one JVM
+ * (LoadRunner, WatchRunner) turn the suite-wide hooks off with -Dhooks.suite.enabled=false and do that work
+ * once themselves, so that it is not repeated for every iteration or rerun.
+ */
+public class ScenarioHooks {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScenarioHooks.class);
+
+    /**
+     * With -Dcleanup.orphans=true, deletes objects that earlier runs created but never cleaned up.
+     * Runs before fixtures are provisioned.
+     */
+    @BeforeAll(order = 0)
+    public static void deleteOrphanedObjects() {
+        if (suiteHooksEnabled() && ApiConfig.booleanProperty("cleanup.orphans", false)) {
+            TeardownResult result = CreatedObjectRegistry.instance().deleteOrphans(ApiConfig.baseUrl());
+            logger.info("Orphan cleanup: {}", result);
+        }
+    }
+
+    /**
+     * Creates the fixture objects the selected scenarios ask for before the first scenario starts.
+     * Scenarios are selected like the run selects them: by -Dcucumber.features (which a shard sets to its own
+     * scenario lines; default classpath:features), -Dcucumber.filter.tags and -Dcucumber.filter.name. Runners that
+     * pass their selection as arguments set -Dfixture.features and -Dfixture.tags instead.
+     * Disable with -Dfixture.provision.enabled=false to create each fixture on first lease instead.
+     */
+    @BeforeAll(order = 1)
+    public static void provisionFixtures() {
+        if (suiteHooksEnabled() && ApiConfig.booleanProperty("fixture.provision.enabled", true)) {
+            String features = System.getProperty("fixture.features", System.getProperty("cucumber.features", "classpath:features"));
+            String tags = System.getProperty("fixture.tags", System.getProperty("cucumber.filter.tags", ""));
+            List<FeatureScenario> scenarios = FeatureFiles.select(features, tags, System.getProperty("cucumber.filter.name"));
+            FixturePool.instance().provisionOnce(FixtureDemand.of(scenarios));
+        }
+    }
+
+    /**
+     * Runs before any other hook so every step sees a clean context.
+     */
+    @Before(order = 0)
+    public void startScenarioContext() {
+        ScenarioContext.start();
+    }
+
+    /**
+     * Attaches the scenario's step durations and HTTP time per endpoint, split into connect,
+     * time to first byte and the rest. Runs after the last step, before the context is dropped.
+     */
+    @After(order = 10)
+    public void attachTimingSummary() {
+        ScenarioTimings timings = ScenarioContext.current().getScenarioTimings();
+        if (!timings.isEmpty()) {
+            ReportData.record("Timing Summary", timings::format);
+        }
+    }
+
+    /**
+     * Attaches p50 and p95 of the scenario and of each endpoint it called in the last runs
+     * of the latency history (-Dhistory.trend.runs, default 10). Disabled with -Dhistory.enabled=false.
+     */
+    @After(order = 9)
+    public void attachLatencyTrend(Scenario scenario) {
+        if (!ApiConfig.booleanProperty("history.enabled", true)) {
+            return;
+        }
+        ReportData.record("Latency Trend", () -> {
+            List<String> keys = new ArrayList<>();
+            keys.add(RunLatencies.scenarioKey(scenario.getUri(), scenario.getName()));
+            keys.addAll(ScenarioContext.current().getScenarioTimings().endpoints().stream()
+                    .map(RunLatencies::endpointKey)
+                    .collect(Collectors.toList()));
+            return LatencyHistory.shared().trendTable(keys, ApiConfig.baseUrl(), LatencyRegressions.profile(),
+                    ApiConfig.intProperty("history.trend.runs", 10));
+        });
+    }
+
+    /**
+     * After hooks run in reverse order, so order 0 runs last and other hooks can still read the context.
+     */
+    @After(order = 0)
+    public void clearScenarioContext() {
+        ScenarioContext.clear();
+    }
+
+    /**
+     * Compares the run's scenario and endpoint latencies with earlier runs and adds the run to the history
+     * (see LatencyRegressions). Regressions are logged, and fail the run with -Dhistory.fail.on.regression=true.
+     * AfterAll hooks with a higher order run first, so the teardown's DELETE requests are not counted.
+     */
+    @AfterAll(order = 20000)
+    public static void compareWithLatencyHistory() {
+        if (!suiteHooksEnabled() || !ApiConfig.booleanProperty("history.enabled", true)) {
+            return;
+        }
+        List<RegressionCheck.Result> regressions = LatencyRegressions.checkAndRecord();
+        if (!regressions.isEmpty() && ApiConfig.booleanProperty("history.fail.on.regression", false)) {
+            throw new AssertionError("Latency regressed compared with earlier runs:" + System.lineSeparator()
+                    + regressions.stream().map(RegressionCheck.Result::toString)
+                    .collect(Collectors.joining(System.lineSeparator())));
+        }
+    }
+
+    /**
+     * Reports how many connections the shared HTTP client opened and how often it reused them.
+     */
+    @AfterAll
+    public static void reportConnectionReuse() {
+        if (!suiteHooksEnabled()) {
+            return;
+        }
+        logger.info("HTTP connection reuse: {}", ConnectionMetrics.summary());
+    }
+
+    /**
+     * Deletes every object the run created, including fixtures, and reports any that could not be deleted.
+     * Disable with -Dcleanup.teardown.enabled=false to keep the objects for debugging.
+     */
+    @AfterAll
+    public static void deleteCreatedObjects() {
+        if (!suiteHooksEnabled() || !ApiConfig.booleanProperty("cleanup.teardown.enabled", true)) {
+            return;
+        }
+        TeardownResult result = CreatedObjectRegistry.instance().deleteAll();
+        FixturePool.instance().reset();
+        logger.info("Teardown of created objects: {}", result);
+        result.getFailures().forEach((id, reason) -> logger.error("Could not delete object {}: {}", id, reason));
+    }
+
+    private static boolean suiteHooksEnabled() {
+        return ApiConfig.booleanProperty("hooks.suite.enabled", true);
+    }
+}
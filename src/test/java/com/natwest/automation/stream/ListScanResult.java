@@ -0,0 +1,74 @@
+// src/test/java/com/natwest/automation/stream/ListScanResult.java
+package com.natwest.automation.stream;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Outcome of a single streaming pass over a JSON array of objects.
+ * Holds counts only, so its size does not depend on the length of the list.
+ */
+public class ListScanResult {
+
+    private final int statusCode;
+    private final long elementCount;
+    private final long nonObjectElements; // Array entries that were not JSON objects
+    private final Map<String, Long> fieldPresence; // Per field name: elements with a non-null value for it
+    private final Set<String> expectedIds;
+    private final Set<String> foundIds; // The expected IDs that appeared in the list
+    private final long elapsedMillis;
+
+    public ListScanResult(int statusCode, long elementCount, long nonObjectElements, Map<String, Long> fieldPresence,
+                          Set<String> expectedIds, Set<String> foundIds, long elapsedMillis) {
+        this.statusCode = statusCode;
+        this.elementCount = elementCount;
+        this.nonObjectElements = nonObjectElements;
+        this.fieldPresence = Collections.unmodifiableMap(fieldPresence);
+        this.expectedIds = Collections.unmodifiableSet(expectedIds);
+        this.foundIds = Collections.unmodifiableSet(foundIds);
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public long getElementCount() {
+        return elementCount;
+    }
+
+    public long getNonObjectElements() {
+        return nonObjectElements;
+    }
+
+    /**
+     * Number of elements with a non-null value for the given field.
+     */
+    public long presenceOf(String field) {
+        return fieldPresence.getOrDefault(field, 0L);
+    }
+
+    public Map<String, Long> getFieldPresence() {
+        return fieldPresence;
+    }
+
+    public Set<String> getExpectedIds() {
+        return expectedIds;
+    }
+
+    public Set<String> getFoundIds() {
+        return foundIds;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "status=" + statusCode + ", elements=" + elementCount + ", nonObjectElements=" + nonObjectElements
+                + ", fieldPresence=" + fieldPresence + ", foundIds=" + foundIds.size() + "/" + expectedIds.size()
+                + ", elapsed=" + elapsedMillis + "ms";
+    }
+}
@@ -0,0 +1,109 @@
+// src/test/java/com/natwest/automation/stream/ObjectListScanner.java
+package com.natwest.automation.stream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.natwest.automation.http.SharedJdkHttpClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validates GET /objects list responses in one token-level pass over the response stream.
+ * Elements are never materialised: the scanner counts them, tallies which top-level fields each one
+ * has, and ticks off a fixed set of expected IDs. Memory use is bounded by the number of distinct
+ * field names and expected IDs, not by the length of the list.
+ */
+public class ObjectListScanner {
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+    private static final int MAX_TRACKED_FIELDS = 1_000; // Guards against lists with unbounded key sets
+
+    private final Set<String> expectedIds;
+
+    public ObjectListScanner(Set<String> expectedIds) {
+        this.expectedIds = expectedIds;
+    }
+
+    /**
+     * Sends GET {baseUrl}/objects and scans the body as it arrives.
+     * Non-200 responses are returned with their status code and an element count of zero.
+     */
+    public ListScanResult fetchAndScan(String baseUrl) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/objects"))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        HttpResponse<InputStream> response = SharedJdkHttpClient.get().send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) {
+                body.transferTo(OutputStream.nullOutputStream()); // Drain so the connection can be reused
+                return new ListScanResult(response.statusCode(), 0, 0, new HashMap<>(), expectedIds, new HashSet<>(),
+                        elapsedMillis(start));
+            }
+            return scan(response.statusCode(), body, start);
+        }
+    }
+
+    /**
+     * Scans a JSON array from the given stream. The stream is read to the end of the array but not closed.
+     */
+    public ListScanResult scan(int statusCode, InputStream body, long startNanos) throws IOException {
+        long elementCount = 0;
+        long nonObjectElements = 0;
+        Map<String, Long> fieldPresence = new HashMap<>();
+        Set<String> foundIds = new HashSet<>();
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected the list response to be a JSON array but it started with " + parser.currentToken());
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IOException("List response ended before the closing ']' after " + elementCount + " elements");
+                }
+                elementCount++;
+                if (token != JsonToken.START_OBJECT) {
+                    nonObjectElements++;
+                    parser.skipChildren();
+                    continue;
+                }
+                scanElement(parser, fieldPresence, foundIds);
+            }
+        }
+        return new ListScanResult(statusCode, elementCount, nonObjectElements, fieldPresence, expectedIds, foundIds,
+                elapsedMillis(startNanos));
+    }
+
+    private void scanElement(JsonParser parser, Map<String, Long> fieldPresence, Set<String> foundIds) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (value != JsonToken.VALUE_NULL && (fieldPresence.containsKey(field) || fieldPresence.size() < MAX_TRACKED_FIELDS)) {
+                fieldPresence.merge(field, 1L, Long::sum);
+            }
+            if ("id".equals(field) && value != null && value.isScalarValue() && !expectedIds.isEmpty()) {
+                String id = parser.getText();
+                if (expectedIds.contains(id)) {
+                    foundIds.add(id);
+                }
+            }
+            parser.skipChildren(); // No-op for scalars; skips nested "data" objects without building them
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
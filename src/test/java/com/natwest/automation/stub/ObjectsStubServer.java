@@ -0,0 +1,306 @@
+// src/test/java/com/natwest/automation/stub/ObjectsStubServer.java
+package com.natwest.automation.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.natwest.automation.config.ApiConfig;
+import com.natwest.automation.config.ObjectsEndpoint;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.BindException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process implementation of the restful-api.dev /objects endpoints used by the suite.
+ * Objects live in memory for the lifetime of the JVM, and responses follow the shapes of the real service:
+ * POST returns the stored object plus "createdAt", DELETE returns the "has been deleted" message,
+ * unknown IDs give 404 with an "error" field.
+ * <p>
+ * Latency, error rate and concurrency can be set per endpoint (see StubEndpointSettings) so that
+ * client-side changes can be benchmarked against a server that behaves the same on every run.
+ */
+public class ObjectsStubServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ObjectsStubServer.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    // Same timestamp format as the real API, e.g. 2025-05-05T10:15:30.123+00:00
+    private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSxxx");
+
+    private static ObjectsStubServer running; // The server started for the configured base URL, if any
+
+    private final int port;
+    private final Map<String, ObjectNode> objects = new ConcurrentHashMap<>();
+    private final Map<ObjectsEndpoint, StubEndpointSettings> settings = new EnumMap<>(ObjectsEndpoint.class);
+    private final Map<ObjectsEndpoint, Semaphore> concurrencyLimits = new EnumMap<>(ObjectsEndpoint.class);
+    private final long seed;
+    private final AtomicLong requestCount = new AtomicLong();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public ObjectsStubServer(int port, long seed) {
+        this.port = port;
+        this.seed = seed;
+        for (ObjectsEndpoint endpoint : ObjectsEndpoint.values()) {
+            StubEndpointSettings endpointSettings = StubEndpointSettings.fromSystemProperties(endpoint);
+            settings.put(endpoint, endpointSettings);
+            if (endpointSettings.getMaxConcurrency() > 0) {
+                concurrencyLimits.put(endpoint, new Semaphore(endpointSettings.getMaxConcurrency(), true));
+            }
+        }
+        seedObjects();
+    }
+
+    /**
+     * Starts the stub once per JVM on the port of the base URL when -Dstub.enabled=true. A localhost base URL
+     * alone does not start it, so a real service listening there is never shadowed. If the port is already
+     * taken the existing listener is used.
+     */
+    public static synchronized void startIfEnabled(String baseUrl) {
+        if (running != null || !ApiConfig.booleanProperty("stub.enabled", false)) {
+            return;
+        }
+        URI uri = URI.create(baseUrl);
+        String host = uri.getHost();
+        if (!"localhost".equalsIgnoreCase(host) && !"127.0.0.1".equals(host)) {
+            throw new IllegalStateException("stub.enabled is set, but the base URL " + baseUrl + " is not on localhost");
+        }
+        if (!"http".equalsIgnoreCase(uri.getScheme())) {
+            throw new IllegalStateException("The objects stub only serves plain http, but the base URL is " + baseUrl);
+        }
+        int port = uri.getPort() > 0 ? uri.getPort() : 80;
+        ObjectsStubServer stub = new ObjectsStubServer(port, ApiConfig.longProperty("stub.seed", 42L));
+        try {
+            stub.start();
+            running = stub;
+            Runtime.getRuntime().addShutdownHook(new Thread(stub::stop, "objects-stub-shutdown"));
+        } catch (BindException e) {
+            logger.warn("Port {} is already in use; assuming an objects API is already listening at {}", port, baseUrl);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start objects stub server on port " + port, e);
+        }
+    }
+
+    /**
+     * Binds the server and starts serving requests.
+     */
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), ApiConfig.intProperty("stub.server.backlog", 512));
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(ApiConfig.intProperty("stub.server.threads", 64), runnable -> {
+            Thread thread = new Thread(runnable, "objects-stub-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/objects", this::handle);
+        server.start();
+        logger.info("Objects stub server listening on http://127.0.0.1:{}", port);
+        for (ObjectsEndpoint endpoint : ObjectsEndpoint.values()) {
+            logger.info("Stub {}: {}", endpoint.label(), settings.get(endpoint));
+        }
+    }
+
+    /**
+     * Stops the server and its worker threads.
+     */
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Number of objects currently stored, including the seeded ones.
+     */
+    public int size() {
+        return objects.size();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            ObjectsEndpoint endpoint = ObjectsEndpoint.resolve(exchange.getRequestMethod(), path);
+            if (endpoint == null) {
+                sendError(exchange, 405, "Method " + exchange.getRequestMethod() + " is not supported for " + path);
+                return;
+            }
+            Semaphore limit = concurrencyLimits.get(endpoint);
+            if (limit != null) {
+                limit.acquireUninterruptibly();
+            }
+            try {
+                SplittableRandom random = requestRandom();
+                applyLatency(settings.get(endpoint), random);
+                if (shouldFail(settings.get(endpoint), random)) {
+                    sendError(exchange, 500, "Injected fault for " + endpoint.label());
+                    return;
+                }
+                switch (endpoint) {
+                    case CREATE:
+                        create(exchange);
+                        break;
+                    case GET:
+                        get(exchange, ObjectsEndpoint.idFromPath(path));
+                        break;
+                    case LIST:
+                        list(exchange);
+                        break;
+                    case DELETE:
+                        delete(exchange, ObjectsEndpoint.idFromPath(path));
+                        break;
+                    default:
+                        sendError(exchange, 405, "Unsupported endpoint " + endpoint.label());
+                }
+            } finally {
+                if (limit != null) {
+                    limit.release();
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void create(HttpExchange exchange) throws IOException {
+        JsonNode body;
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            body = objectMapper.readTree(requestBody);
+        } catch (IOException e) {
+            body = null;
+        }
+        if (body == null || !body.isObject()) {
+            sendError(exchange, 400, "400 Bad Request. If you are trying to create or update the data, potential issue is "
+                    + "that you are sending incorrect body json or it is missing at all.");
+            return;
+        }
+        String id = UUID.randomUUID().toString().replace("-", "");
+        ObjectNode stored = objectMapper.createObjectNode();
+        stored.put("id", id);
+        stored.set("name", body.path("name").isMissingNode() ? null : body.get("name"));
+        stored.set("data", body.path("data").isMissingNode() ? null : body.get("data"));
+        objects.put(id, stored);
+
+        ObjectNode created = objectMapper.createObjectNode();
+        created.put("id", id);
+        created.set("name", stored.get("name"));
+        created.put("createdAt", OffsetDateTime.now(ZoneOffset.UTC).format(CREATED_AT_FORMAT));
+        created.set("data", stored.get("data"));
+        send(exchange, 200, created);
+    }
+
+    private void get(HttpExchange exchange, String id) throws IOException {
+        ObjectNode stored = id == null ? null : objects.get(id);
+        if (stored == null) {
+            sendError(exchange, 404, "Object with id=" + id + " was not found.");
+            return;
+        }
+        send(exchange, 200, stored);
+    }
+
+    private void list(HttpExchange exchange) throws IOException {
+        send(exchange, 200, objectMapper.createArrayNode().addAll(objects.values()));
+    }
+
+    private void delete(HttpExchange exchange, String id) throws IOException {
+        if (id == null || objects.remove(id) == null) {
+            sendError(exchange, 404, "Object with id = " + id + " doesn't exist.");
+            return;
+        }
+        ObjectNode message = objectMapper.createObjectNode();
+        message.put("message", String.format("Object with id = %s has been deleted.", id));
+        send(exchange, 200, message);
+    }
+
+    /**
+     * Generator for one request, derived from the seed and the request's sequence number. The n-th request
+     * always gets the same latency and fault draws, however many handler threads run, and threads never
+     * contend on a shared generator.
+     */
+    private SplittableRandom requestRandom() {
+        return new SplittableRandom(seed ^ (requestCount.getAndIncrement() * 0x9E3779B97F4A7C15L));
+    }
+
+    private void applyLatency(StubEndpointSettings endpointSettings, SplittableRandom random) {
+        long delay = endpointSettings.getLatencyMillis();
+        if (endpointSettings.getLatencyJitterMillis() > 0) {
+            delay += (long) (random.nextDouble() * endpointSettings.getLatencyJitterMillis());
+        }
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean shouldFail(StubEndpointSettings endpointSettings, SplittableRandom random) {
+        return endpointSettings.getErrorRate() > 0 && random.nextDouble() < endpointSettings.getErrorRate();
+    }
+
+    private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        ObjectNode error = objectMapper.createObjectNode();
+        error.put("error", message);
+        send(exchange, status, error);
+    }
+
+    private void send(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+
+    /**
+     * Adds a few of the reserved demo objects that the real API always lists.
+     */
+    private void seedObjects() {
+        ObjectNode pixel = objectMapper.createObjectNode();
+        pixel.put("id", "1");
+        pixel.put("name", "Google Pixel 6 Pro");
+        pixel.putObject("data").put("color", "Cloudy White").put("capacity", "128 GB");
+        objects.put("1", pixel);
+
+        ObjectNode iphoneMini = objectMapper.createObjectNode();
+        iphoneMini.put("id", "2");
+        iphoneMini.put("name", "Apple iPhone 12 Mini, 256GB, Blue");
+        iphoneMini.putNull("data");
+        objects.put("2", iphoneMini);
+
+        ObjectNode iphonePro = objectMapper.createObjectNode();
+        iphonePro.put("id", "3");
+        iphonePro.put("name", "Apple iPhone 12 Pro Max");
+        iphonePro.putObject("data").put("color", "Cloudy White").put("capacity GB", 512);
+        objects.put("3", iphonePro);
+    }
+}
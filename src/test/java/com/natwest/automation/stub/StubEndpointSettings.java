@@ -0,0 +1,62 @@
+// src/test/java/com/natwest/automation/stub/StubEndpointSettings.java
+package com.natwest.automation.stub;
+
+import com.natwest.automation.config.ApiConfig;
+import com.natwest.automation.config.ObjectsEndpoint;
+
+/**
+ * Latency, fault and concurrency settings for one stub endpoint.
+ * Each value is read from "stub.&lt;endpoint&gt;.&lt;setting&gt;" and falls back to "stub.&lt;setting&gt;",
+ * e.g. stub.get.latency.ms=40 overrides stub.latency.ms for GET /objects/{id} only.
+ */
+public class StubEndpointSettings {
+
+    private final long latencyMillis;       // Fixed delay added to every response
+    private final long latencyJitterMillis; // Extra random delay between 0 and this value
+    private final double errorRate;         // Fraction of requests answered with HTTP 500
+    private final int maxConcurrency;       // Requests served at once; 0 means unlimited
+
+    public StubEndpointSettings(long latencyMillis, long latencyJitterMillis, double errorRate, int maxConcurrency) {
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("Stub error rate must be between 0 and 1 but was " + errorRate);
+        }
+        this.latencyMillis = latencyMillis;
+        this.latencyJitterMillis = latencyJitterMillis;
+        this.errorRate = errorRate;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Builds the settings for an endpoint from system properties.
+     */
+    public static StubEndpointSettings fromSystemProperties(ObjectsEndpoint endpoint) {
+        String prefix = "stub." + endpoint.getKey() + ".";
+        return new StubEndpointSettings(
+                ApiConfig.longProperty(prefix + "latency.ms", ApiConfig.longProperty("stub.latency.ms", 0)),
+                ApiConfig.longProperty(prefix + "latency.jitter.ms", ApiConfig.longProperty("stub.latency.jitter.ms", 0)),
+                ApiConfig.doubleProperty(prefix + "error.rate", ApiConfig.doubleProperty("stub.error.rate", 0.0)),
+                ApiConfig.intProperty(prefix + "max.concurrency", ApiConfig.intProperty("stub.max.concurrency", 0)));
+    }
+
+    public long getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    public long getLatencyJitterMillis() {
+        return latencyJitterMillis;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public String toString() {
+        return "latency=" + latencyMillis + "ms (+0.." + latencyJitterMillis + "ms), errorRate=" + errorRate
+                + ", maxConcurrency=" + (maxConcurrency > 0 ? String.valueOf(maxConcurrency) : "unlimited");
+    }
+}
@@ -0,0 +1,81 @@
+// src/test/java/com/natwest/automation/utils/BodyLogger.java
+package com.natwest.automation.utils;
+
+import com.natwest.automation.config.ApiConfig;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logs request and response bodies only when they will actually be written.
+ * Nothing is captured unless the logger has INFO enabled and the call is sampled, and bodies are
+ * cut to a configurable size before they are turned into strings.
+ * <ul>
+ *   <li>log.body.max.chars - longest body written, in characters (default 2048)</li>
+ *   <li>log.body.sample.rate - fraction of calls that log their body, from 0.0 to 1.0 (default 1.0)</li>
+ * </ul>
+ * Console output goes through the asynchronous appender configured in logback-test.xml.
+ */
+public final class BodyLogger {
+
+    private static final int maxChars = ApiConfig.intProperty("log.body.max.chars", 2048);
+    private static final double sampleRate = ApiConfig.doubleProperty("log.body.sample.rate", 1.0);
+
+    private BodyLogger() {
+    }
+
+    /**
+     * Logs the response body at INFO, e.g. "Received response: {...}".
+     */
+    public static void logResponse(Logger logger, String message, Response response) {
+        if (!logger.isInfoEnabled() || !sampled()) {
+            return;
+        }
+        byte[] body = response.getBody().asByteArray();
+        logger.info("{}: {}", message, truncate(body));
+    }
+
+    /**
+     * Logs a request payload at INFO as JSON, e.g. "Sending POST request to /objects with payload: {...}".
+     */
+    public static void logPayload(Logger logger, String message, Object payload) {
+        if (!logger.isInfoEnabled() || !sampled()) {
+            return;
+        }
+        logger.info("{}: {}", message, payload == null ? "null" : truncate(JsonUtils.toJson(payload)));
+    }
+
+    private static boolean sampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private static String truncate(byte[] body) {
+        // A UTF-8 character is at most 4 bytes, so this prefix always holds maxChars characters
+        int prefixBytes = (int) Math.min(body.length, 4L * maxChars);
+        String prefix = new String(body, 0, prefixBytes, StandardCharsets.UTF_8);
+        if (prefix.length() <= maxChars && prefixBytes == body.length) {
+            return prefix;
+        }
+        return cut(prefix) + "... [truncated, " + body.length + " bytes in total]";
+    }
+
+    private static String truncate(String body) {
+        if (body.length() <= maxChars) {
+            return body;
+        }
+        return cut(body) + "... [truncated, " + body.length() + " chars in total]";
+    }
+
+    /**
+     * The first maxChars characters, one fewer if that would split a surrogate pair.
+     */
+    private static String cut(String body) {
+        int end = Math.min(body.length(), maxChars);
+        if (end > 0 && end < body.length() && Character.isHighSurrogate(body.charAt(end - 1))) {
+            end--;
+        }
+        return body.substring(0, end);
+    }
+}
@@ -0,0 +1,42 @@
+// src/test/java/com/natwest/automation/utils/EncodedBody.java
+package com.natwest.automation.utils;
+
+import com.natwest.automation.config.ExecutionProfile;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A request body serialized once to UTF-8 JSON, shared by every request that sends the same payload.
+ * The bytes must not be modified.
+ */
+public final class EncodedBody {
+
+    private final byte[] bytes;
+    private volatile String text; // Decoded on first use and kept, so a cached body is decoded at most once
+
+    EncodedBody(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    /**
+     * The body to pass to RestAssured's body(...): the bytes as they are in the perf profile, the text
+     * otherwise, because the Serenity report shows a String body but not a byte array.
+     */
+    public Object forRequest() {
+        return ExecutionProfile.recordsReportData() ? toString() : bytes;
+    }
+
+    @Override
+    public String toString() {
+        String decoded = text;
+        if (decoded == null) {
+            decoded = new String(bytes, StandardCharsets.UTF_8);
+            text = decoded;
+        }
+        return decoded;
+    }
+}
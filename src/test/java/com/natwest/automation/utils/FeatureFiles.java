@@ -0,0 +1,255 @@
+// src/test/java/com/natwest/automation/utils/FeatureFiles.java
+package com.natwest.automation.utils;
+
+import io.cucumber.gherkin.GherkinParser;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.Examples;
+import io.cucumber.messages.types.FeatureChild;
+import io.cucumber.messages.types.GherkinDocument;
+import io.cucumber.messages.types.ParseError;
+import io.cucumber.messages.types.Pickle;
+import io.cucumber.messages.types.PickleStep;
+import io.cucumber.messages.types.PickleTableCell;
+import io.cucumber.messages.types.PickleTableRow;
+import io.cucumber.messages.types.PickleTag;
+import io.cucumber.messages.types.RuleChild;
+import io.cucumber.messages.types.Scenario;
+import io.cucumber.messages.types.TableRow;
+import io.cucumber.tagexpressions.Expression;
+import io.cucumber.tagexpressions.TagExpressionParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads feature files with Cucumber's own Gherkin parser and selects scenarios the way a Cucumber run does,
+ * so that tools which plan or prepare a run (sharding, fixture provisioning, watch reruns) agree with it on
+ * which scenarios exist, their lines, tags and steps. Tag expressions are evaluated by Cucumber's parser too.
+ */
+public final class FeatureFiles {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeatureFiles.class);
+    private static final GherkinParser PARSER = GherkinParser.builder()
+            .includeSource(false)
+            .includeGherkinDocument(true)
+            .includePickles(true)
+            .build();
+
+    private FeatureFiles() {
+    }
+
+    /**
+     * Every scenario in the .feature files under the directory, in file and line order.
+     */
+    public static List<FeatureScenario> scan(Path directory) {
+        List<FeatureScenario> scenarios = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path feature : files.filter(FeatureFiles::isFeature).sorted().collect(Collectors.toList())) {
+                scenarios.addAll(parse(feature));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read feature files under " + directory, e);
+        }
+        return scenarios;
+    }
+
+    /**
+     * The scenarios of one feature file, in line order. Their feature URI is the path with forward slashes.
+     */
+    public static List<FeatureScenario> parse(Path feature) {
+        try {
+            return parse(feature.toString().replace('\\', '/'), Files.readAllBytes(feature));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read feature file " + feature, e);
+        }
+    }
+
+    /**
+     * The scenarios of a feature file's content, in line order.
+     */
+    public static List<FeatureScenario> parse(String uri, byte[] content) {
+        List<Envelope> envelopes = PARSER.parse(uri, content).collect(Collectors.toList());
+        List<String> errors = envelopes.stream()
+                .flatMap(envelope -> envelope.getParseError().stream())
+                .map(ParseError::getMessage)
+                .collect(Collectors.toList());
+        if (!errors.isEmpty()) {
+            throw new RuntimeException("Failed to parse feature file " + uri + ": " + String.join("; ", errors));
+        }
+        Map<String, Scenario> scenariosById = new HashMap<>();
+        Map<String, TableRow> rowsById = new HashMap<>();
+        Map<String, Integer> rowNumbers = new HashMap<>(); // Row ID -> one-based row across the outline's Examples
+        envelopes.stream()
+                .flatMap(envelope -> envelope.getGherkinDocument().stream())
+                .forEach(document -> index(document, scenariosById, rowsById, rowNumbers));
+
+        List<FeatureScenario> scenarios = new ArrayList<>();
+        for (Envelope envelope : envelopes) {
+            envelope.getPickle().ifPresent(pickle -> scenarios.add(toScenario(pickle, scenariosById, rowsById, rowNumbers)));
+        }
+        scenarios.sort((a, b) -> Integer.compare(a.getLine(), b.getLine()));
+        return scenarios;
+    }
+
+    /**
+     * The scenarios a Cucumber run with these options would execute.
+     *
+     * @param features      comma-separated feature arguments as for cucumber.features: directories or files, with
+     *                      optional :line suffixes, on the file system or as classpath: locations
+     * @param tagExpression Cucumber tag expression; blank for every scenario
+     * @param namePattern   regular expression a scenario name must contain, as for cucumber.filter.name; null for any
+     */
+    public static List<FeatureScenario> select(String features, String tagExpression, String namePattern) {
+        List<FeatureScenario> selected = new ArrayList<>();
+        for (String location : features.trim().split("[,\\s]+")) {
+            if (location.isEmpty()) {
+                continue;
+            }
+            String[] parts = location.split(":(?=\\d)");
+            Path path = resolve(parts[0]);
+            if (path == null || !Files.exists(path)) {
+                logger.warn("Feature location '{}' is not on the file system; its scenarios are not selected", parts[0]);
+                continue;
+            }
+            List<FeatureScenario> scenarios = Files.isDirectory(path) ? scan(path) : parse(path);
+            if (parts.length == 1) {
+                selected.addAll(scenarios);
+                continue;
+            }
+            Set<Integer> lines = new HashSet<>();
+            for (int i = 1; i < parts.length; i++) {
+                lines.add(Integer.parseInt(parts[i]));
+            }
+            scenarios.stream()
+                    .filter(scenario -> lines.contains(scenario.getLine()) || lines.contains(scenario.getScenarioLine()))
+                    .forEach(selected::add);
+        }
+        List<FeatureScenario> matching = filter(selected, tagExpression);
+        if (namePattern == null || namePattern.isBlank()) {
+            return matching;
+        }
+        Pattern name = Pattern.compile(namePattern);
+        return matching.stream().filter(scenario -> name.matcher(scenario.getName()).find()).collect(Collectors.toList());
+    }
+
+    /**
+     * The scenarios whose tags match a Cucumber tag expression such as "@GetObject and not @Negative".
+     * A blank or null expression matches every scenario.
+     */
+    public static List<FeatureScenario> filter(List<FeatureScenario> scenarios, String tagExpression) {
+        if (tagExpression == null || tagExpression.isBlank()) {
+            return scenarios;
+        }
+        Expression expression = TagExpressionParser.parse(tagExpression);
+        return scenarios.stream().filter(scenario -> expression.evaluate(scenario.getTags())).collect(Collectors.toList());
+    }
+
+    /**
+     * Path of a feature from the "features/" directory on, e.g. "features/objects_api.feature" for any of
+     * file:src/test/resources/features/..., classpath:features/... or a plain path.
+     */
+    public static String featurePath(String featureUri) {
+        String path = featureUri.replace('\\', '/');
+        int colon = path.indexOf(':');
+        if (colon > 1 && !path.startsWith("/")) {
+            path = path.substring(colon + 1); // Drop the URI scheme, but not a Windows drive letter
+        }
+        int features = path.indexOf("features/");
+        return features >= 0 ? path.substring(features) : path;
+    }
+
+    public static boolean isFeature(Path file) {
+        return file.getFileName().toString().endsWith(".feature");
+    }
+
+    /**
+     * File system path of a feature location; classpath: locations are looked up on the test classpath,
+     * and null is returned if they are not on the file system (e.g. inside a jar).
+     */
+    private static Path resolve(String location) {
+        if (location.startsWith("file:")) {
+            return Paths.get(location.substring("file:".length()));
+        }
+        if (!location.startsWith("classpath:")) {
+            return Paths.get(location);
+        }
+        String resource = location.substring("classpath:".length()).replaceFirst("^/", "");
+        URL url = FeatureFiles.class.getClassLoader().getResource(resource);
+        if (url == null || !"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            return Paths.get(url.toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Unexpected classpath location " + url, e);
+        }
+    }
+
+    private static void index(GherkinDocument document, Map<String, Scenario> scenariosById,
+                              Map<String, TableRow> rowsById, Map<String, Integer> rowNumbers) {
+        List<Scenario> scenarios = new ArrayList<>();
+        document.getFeature().ifPresent(feature -> {
+            for (FeatureChild child : feature.getChildren()) {
+                child.getScenario().ifPresent(scenarios::add);
+                child.getRule().ifPresent(rule -> rule.getChildren().stream()
+                        .map(RuleChild::getScenario)
+                        .forEach(scenario -> scenario.ifPresent(scenarios::add)));
+            }
+        });
+        for (Scenario scenario : scenarios) {
+            scenariosById.put(scenario.getId(), scenario);
+            int rowNumber = 0;
+            for (Examples examples : scenario.getExamples()) {
+                for (TableRow row : examples.getTableBody()) {
+                    rowsById.put(row.getId(), row);
+                    rowNumbers.put(row.getId(), ++rowNumber);
+                }
+            }
+        }
+    }
+
+    private static FeatureScenario toScenario(Pickle pickle, Map<String, Scenario> scenariosById,
+                                              Map<String, TableRow> rowsById, Map<String, Integer> rowNumbers) {
+        List<String> astNodeIds = pickle.getAstNodeIds();
+        Scenario scenario = scenariosById.get(astNodeIds.get(0));
+        int scenarioLine = scenario.getLocation().getLine().intValue();
+        int line = scenarioLine;
+        String key = featurePath(pickle.getUri()) + ": " + scenario.getName();
+        if (astNodeIds.size() > 1) { // An example row of an outline
+            String rowId = astNodeIds.get(astNodeIds.size() - 1);
+            line = rowsById.get(rowId).getLocation().getLine().intValue();
+            key += " #" + rowNumbers.get(rowId);
+        }
+        List<String> tags = pickle.getTags().stream().map(PickleTag::getName).collect(Collectors.toList());
+        List<String> steps = pickle.getSteps().stream().map(PickleStep::getText).collect(Collectors.toList());
+        StringBuilder text = new StringBuilder();
+        for (PickleStep step : pickle.getSteps()) {
+            text.append(step.getText()).append('\n');
+            step.getArgument().ifPresent(argument -> {
+                argument.getDocString().ifPresent(docString -> text.append(docString.getContent()).append('\n'));
+                argument.getDataTable().ifPresent(table -> {
+                    for (PickleTableRow row : table.getRows()) {
+                        text.append(row.getCells().stream().map(PickleTableCell::getValue)
+                                .collect(Collectors.joining(" | ", "| ", " |"))).append('\n');
+                    }
+                });
+            });
+        }
+        return new FeatureScenario(pickle.getUri(), line, scenarioLine, pickle.getName(), key, tags, steps, text.toString());
+    }
+}
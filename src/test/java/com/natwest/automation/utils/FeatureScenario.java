@@ -0,0 +1,100 @@
+// src/test/java/com/natwest/automation/utils/FeatureScenario.java
+package com.natwest.automation.utils;
+
+import java.util.List;
+
+/**
+ * One scenario as Cucumber runs it: a Scenario, or one example row of a Scenario Outline.
+ * Tags include those inherited from the feature, Rule and Examples, and steps include the Background steps
+ * with outline placeholders filled in. See FeatureFiles.
+ */
+public final class FeatureScenario {
+
+    private final String featureUri;
+    private final int line;
+    private final int scenarioLine;
+    private final String name;
+    private final String key;
+    private final List<String> tags;
+    private final List<String> steps;
+    private final String text;
+
+    FeatureScenario(String featureUri, int line, int scenarioLine, String name, String key,
+                    List<String> tags, List<String> steps, String text) {
+        this.featureUri = featureUri;
+        this.line = line;
+        this.scenarioLine = scenarioLine;
+        this.name = name;
+        this.key = key;
+        this.tags = tags;
+        this.steps = steps;
+        this.text = text;
+    }
+
+    /**
+     * The feature file as it was given to the parser, e.g. "src/test/resources/features/objects_api.feature".
+     */
+    public String getFeatureUri() {
+        return featureUri;
+    }
+
+    /**
+     * One-based line Cucumber selects this scenario by: the Scenario line, or the example row of an outline.
+     */
+    public int getLine() {
+        return line;
+    }
+
+    /**
+     * One-based line of the Scenario or Scenario Outline keyword; the same for every row of an outline.
+     */
+    public int getScenarioLine() {
+        return scenarioLine;
+    }
+
+    /**
+     * "feature:line", as accepted by Cucumber's feature arguments.
+     */
+    public String getLocation() {
+        return featureUri + ":" + line;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Key that stays the same when lines above the scenario move: the feature path from "features/" on and the
+     * scenario name, plus the example row number for outlines, e.g. "features/objects_api.feature: Create an object #2".
+     * Scenarios of one feature that share a name share a key.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Tags with their "@", inherited ones included.
+     */
+    public List<String> getTags() {
+        return tags;
+    }
+
+    /**
+     * Step texts without their keywords, Background steps first.
+     */
+    public List<String> getSteps() {
+        return steps;
+    }
+
+    /**
+     * The steps with their doc strings and data tables, one per line, for comparing or searching scenario content.
+     */
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        return getLocation() + " (" + key + ")";
+    }
+}
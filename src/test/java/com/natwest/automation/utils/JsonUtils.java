@@ -1,7 +1,15 @@
 // src/test/java/com/natwest/automation/utils/JsonUtils.java
 package com.natwest.automation.utils;
 
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.natwest.automation.config.ApiConfig;
+import com.natwest.automation.metrics.OperationMetrics;
+import com.natwest.automation.metrics.OperationStats;
 import com.natwest.automation.model.ObjectData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,22 +17,49 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
 
 /**
  * Utility class for handling JSON operations, such as reading payloads from files.
+ * Safe to call from parallel scenarios: the shared ObjectMapper is only configured once and
+ * every call returns a newly bound object.
+ * <p>
+ * Parsed payload templates are cached by resource path and target type, so repeated loads of the
+ * same file skip the classpath read and the text parse. Each caller still gets its own copy, bound
+ * from the cached JSON tree. The cache is bounded by the estimated heap size of its trees
+ * (json.cache.max.bytes, default 16 MB) and evicts the least recently used templates first.
+ * Loading, parsing and serializing are timed into OperationMetrics under the "json" category.
  */
 public class JsonUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(JsonUtils.class);
     private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectWriter objectWriter = objectMapper.writer();
+    private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private static final TemplateCache templateCache = new TemplateCache(
+            ApiConfig.longProperty("json.cache.max.bytes", 16L * 1024 * 1024));
+    private static final OperationStats loadTimings = OperationMetrics.forOperation(OperationMetrics.JSON, "readJsonFileAsObject");
+    private static final OperationStats parseTimings = OperationMetrics.forOperation(OperationMetrics.JSON, "readTree");
+    private static final OperationStats treeTimings = OperationMetrics.forOperation(OperationMetrics.JSON, "toTree");
+    private static final OperationStats serializeTimings = OperationMetrics.forOperation(OperationMetrics.JSON, "toJson");
 
     /**
      * Reads a JSON file from the classpath (resources folder) and returns its content as a String.
      *
      */
     public static String readJsonFileAsString(String filePath) {
+        return readJsonFileAsString(filePath, JsonUtils.class.getClassLoader());
+    }
+
+    private static String readJsonFileAsString(String filePath, ClassLoader classLoader) {
         logger.info("Reading JSON file from classpath: {}", filePath);
-        try (InputStream inputStream = JsonUtils.class.getClassLoader().getResourceAsStream(filePath)) {
+        try (InputStream inputStream = classLoader.getResourceAsStream(filePath)) {
             if (inputStream == null) {
                 logger.error("Cannot find file on classpath: {}", filePath);
                 throw new RuntimeException("Cannot find file on classpath: " + filePath);
@@ -41,20 +76,358 @@ public class JsonUtils {
 
     /**
      * Reads a JSON file from the classpath and parses it into a specified POJO class.
+     * The parsed template is cached; every call returns a new, independent instance.
      *
      */
     public static <T> T readJsonFileAsObject(String filePath, Class<T> valueType) {
-        String jsonContent = readJsonFileAsString(filePath);
+        return readJsonFileAsObject(filePath, valueType, JsonUtils.class.getClassLoader());
+    }
+
+    /**
+     * Same as readJsonFileAsObject(filePath, valueType), but looks the file up through the given class loader,
+     * e.g. one that adds a directory of generated payloads. Templates are cached per class loader.
+     */
+    public static <T> T readJsonFileAsObject(String filePath, Class<T> valueType, ClassLoader classLoader) {
+        long start = System.nanoTime();
+        try {
+            return loadJsonFileAsObject(filePath, valueType, classLoader);
+        } finally {
+            loadTimings.record(System.nanoTime() - start);
+        }
+    }
+
+    private static <T> T loadJsonFileAsObject(String filePath, Class<T> valueType, ClassLoader classLoader) {
+        TemplateKey cacheKey = new TemplateKey(classLoader, valueType, filePath);
+        JsonNode template = templateCache.get(cacheKey);
+        if (template != null) {
+            logger.debug("Using cached JSON template {} for type {}", filePath, valueType.getSimpleName());
+            return bind(template, filePath, valueType);
+        }
+        String jsonContent = readJsonFileAsString(filePath, classLoader);
+        try {
+            template = objectMapper.readTree(jsonContent);
+        } catch (IOException e) {
+            logger.error("Failed to parse JSON content from {} into type {}", filePath, valueType.getSimpleName(), e);
+            throw new RuntimeException("Failed to parse JSON file " + filePath + " into type " + valueType.getSimpleName(), e);
+        }
+        T parsedObject = bind(template, filePath, valueType); // Only templates that bind cleanly are cached
+        templateCache.put(cacheKey, template, TemplateCache.estimateBytes(template));
+        logger.info("Successfully parsed JSON from {} into object of type {}", filePath, valueType.getSimpleName());
+        return parsedObject;
+    }
+
+    /**
+     * Opens a JSON Lines file (one JSON document per line) from the classpath and returns an iterator
+     * that parses one record at a time, so files of any size can be processed in constant memory.
+     * Records are not cached. The caller must close the iterator.
+     */
+    public static <T> MappingIterator<T> readJsonLines(String filePath, Class<T> valueType) {
+        InputStream inputStream = JsonUtils.class.getClassLoader().getResourceAsStream(filePath);
+        if (inputStream == null) {
+            logger.error("Cannot find file on classpath: {}", filePath);
+            throw new RuntimeException("Cannot find file on classpath: " + filePath);
+        }
+        try {
+            return readers.computeIfAbsent(valueType, objectMapper::readerFor).readValues(inputStream);
+        } catch (IOException e) {
+            closeQuietly(inputStream);
+            throw new RuntimeException("Failed to open JSON Lines file " + filePath + " for type " + valueType.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Converts an object to a JSON tree with the shared mapper, e.g. to compare it with a response.
+     */
+    public static JsonNode toTree(Object value) {
+        long start = System.nanoTime();
+        try {
+            return objectMapper.valueToTree(value);
+        } finally {
+            treeTimings.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Describes how the shared mapper serializes a type: its JSON property names, accessors and any-getter.
+     */
+    public static BeanDescription describeForSerialization(Class<?> type) {
+        return objectMapper.getSerializationConfig().introspect(objectMapper.constructType(type));
+    }
+
+    /**
+     * Parses a JSON document into a tree with the shared mapper.
+     */
+    public static JsonNode readTree(byte[] json) {
+        long start = System.nanoTime();
+        try {
+            return objectMapper.readTree(json);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to parse JSON document", e);
+        } finally {
+            parseTimings.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Serializes an object to a JSON string with the shared, pre-built writer.
+     */
+    public static String toJson(Object value) {
+        long start = System.nanoTime();
+        try {
+            return objectWriter.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to serialize " + value.getClass().getSimpleName() + " to JSON", e);
+        } finally {
+            serializeTimings.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Serializes an object straight to UTF-8 JSON bytes with the shared, pre-built writer.
+     */
+    public static byte[] toJsonBytes(Object value) {
+        long start = System.nanoTime();
+        try {
+            return objectWriter.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to serialize " + value.getClass().getSimpleName() + " to JSON", e);
+        } finally {
+            serializeTimings.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Binds a JSON tree to the given type with the shared mapper, e.g. to make a deep copy of a payload.
+     */
+    public static <T> T fromTree(JsonNode tree, Class<T> valueType) {
+        try {
+            return readers.computeIfAbsent(valueType, objectMapper::readerFor).readValue(tree);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to bind JSON tree to type " + valueType.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Removes every cached template loaded from the given path, e.g. after the file has changed.
+     */
+    public static void evictFromCache(String filePath) {
+        templateCache.removeIf(key -> key.filePath.equals(filePath));
+    }
+
+    /**
+     * Empties the template cache. Hit and miss counts are kept.
+     */
+    public static void clearCache() {
+        templateCache.removeIf(key -> true);
+    }
+
+    /**
+     * Current hit, miss and eviction counts of the template cache.
+     */
+    public static CacheStats cacheStats() {
+        return templateCache.stats();
+    }
+
+    private static void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close input stream", e);
+        }
+    }
+
+    private static <T> T bind(JsonNode template, String filePath, Class<T> valueType) {
         try {
-            T parsedObject = objectMapper.readValue(jsonContent, valueType);
-            logger.info("Successfully parsed JSON from {} into object of type {}", filePath, valueType.getSimpleName());
-            return parsedObject;
+            return readers.computeIfAbsent(valueType, objectMapper::readerFor).readValue(template);
         } catch (IOException e) {
-            logger.error("Failed to parse JSON content from {} into type {}: {}", filePath, valueType.getSimpleName(), jsonContent, e);
+            logger.error("Failed to bind JSON from {} to type {}", filePath, valueType.getSimpleName(), e);
             throw new RuntimeException("Failed to parse JSON file " + filePath + " into type " + valueType.getSimpleName(), e);
         }
     }
 
+    /**
+     * Snapshot of the template cache counters.
+     */
+    public static class CacheStats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int entries;
+        private final long bytes;
+
+        CacheStats(long hits, long misses, long evictions, int entries, long bytes) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.entries = entries;
+            this.bytes = bytes;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public int getEntries() {
+            return entries;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        @Override
+        public String toString() {
+            return "hits=" + hits + ", misses=" + misses + ", evictions=" + evictions
+                    + ", entries=" + entries + ", bytes=" + bytes;
+        }
+    }
+
+    /**
+     * Cache key of a template: the class loader it was read through, the type it binds to and its path.
+     * Class loaders and types are compared by identity, so two loaders never share an entry.
+     */
+    private static final class TemplateKey {
+        private final ClassLoader classLoader;
+        private final Class<?> valueType;
+        private final String filePath;
+
+        TemplateKey(ClassLoader classLoader, Class<?> valueType, String filePath) {
+            this.classLoader = classLoader;
+            this.valueType = valueType;
+            this.filePath = filePath;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof TemplateKey)) {
+                return false;
+            }
+            TemplateKey key = (TemplateKey) other;
+            return classLoader == key.classLoader && valueType == key.valueType && filePath.equals(key.filePath);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(classLoader), valueType, filePath);
+        }
+    }
+
+    /**
+     * Least-recently-used map of parsed templates, bounded by the total estimated heap size of its trees.
+     */
+    private static class TemplateCache {
+        // Rough 64-bit JVM sizes with compressed references: object header, and the fixed part of a String
+        // (header, hash, coder and its byte array header). A cached tree is typically 5-10 times its source size.
+        private static final long OBJECT_BYTES = 16;
+        private static final long STRING_BYTES = 40;
+        private static final long MAP_ENTRY_BYTES = 40; // LinkedHashMap entry of an ObjectNode field
+        private static final long REFERENCE_BYTES = 4;
+
+        private final long maxBytes;
+        private final LinkedHashMap<TemplateKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true); // Access order
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private long bytes;
+
+        TemplateCache(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        synchronized JsonNode get(TemplateKey key) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.template;
+        }
+
+        synchronized void put(TemplateKey key, JsonNode template, long size) {
+            if (size > maxBytes) {
+                return; // Larger than the whole cache; always read from source
+            }
+            Entry previous = entries.put(key, new Entry(template, size));
+            if (previous != null) {
+                bytes -= previous.size;
+            }
+            bytes += size;
+            Iterator<Entry> eldestFirst = entries.values().iterator();
+            while (bytes > maxBytes && eldestFirst.hasNext()) {
+                bytes -= eldestFirst.next().size;
+                eldestFirst.remove();
+                evictions.increment();
+            }
+        }
+
+        synchronized void removeIf(Predicate<TemplateKey> keyFilter) {
+            Iterator<Map.Entry<TemplateKey, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<TemplateKey, Entry> next = iterator.next();
+                if (keyFilter.test(next.getKey())) {
+                    bytes -= next.getValue().size;
+                    iterator.remove();
+                }
+            }
+        }
+
+        synchronized CacheStats stats() {
+            return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), bytes);
+        }
+
+        /**
+         * Estimated heap size of a JSON tree in bytes: its nodes, field names and text values.
+         */
+        static long estimateBytes(JsonNode node) {
+            long size = OBJECT_BYTES;
+            if (node.isObject()) {
+                size += OBJECT_BYTES * 4; // The ObjectNode's LinkedHashMap and its table header
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    size += MAP_ENTRY_BYTES + REFERENCE_BYTES + stringBytes(field.getKey()) + estimateBytes(field.getValue());
+                }
+            } else if (node.isArray()) {
+                size += OBJECT_BYTES * 2; // The ArrayNode's ArrayList and its element array header
+                for (JsonNode element : node) {
+                    size += REFERENCE_BYTES + estimateBytes(element);
+                }
+            } else if (node.isTextual()) {
+                size += stringBytes(node.textValue());
+            } else if (node.isBigDecimal() || node.isBigInteger()) {
+                size += OBJECT_BYTES * 3;
+            } else {
+                size += Long.BYTES; // Boolean, null and primitive numbers hold at most a long or double
+            }
+            return size;
+        }
+
+        private static long stringBytes(String value) {
+            // Latin-1 strings take one byte per character, others two
+            boolean latin1 = value.chars().allMatch(c -> c < 256);
+            return STRING_BYTES + (long) value.length() * (latin1 ? 1 : 2);
+        }
+    }
+
+    private static class Entry {
+        private final JsonNode template; // Never modified after caching; binding only reads it
+        private final long size;
+
+        Entry(JsonNode template, long size) {
+            this.template = template;
+            this.size = size;
+        }
+    }
+
     // Example usage (can be removed or kept for testing)
     public static void main(String[] args) {
         // Example: Reading as String
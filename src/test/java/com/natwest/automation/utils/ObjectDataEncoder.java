@@ -0,0 +1,305 @@
+// src/test/java/com/natwest/automation/utils/ObjectDataEncoder.java
+package com.natwest.automation.utils;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.natwest.automation.config.ApiConfig;
+import com.natwest.automation.model.ObjectData;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns ObjectData payloads into POST bodies without serializing the same payload twice.
+ * <p>
+ * encode(...) keeps the bytes of recently sent payloads (json.encoder.cache.size, default 256) keyed by
+ * their field values, so sending an unchanged payload again reuses the same buffer.
+ * template(...) serializes a payload once with markers in place of "name" and "data.price", and then
+ * renders variants by copying the bytes around those two values, which suits many objects that differ
+ * only in name or price. Both produce exactly what the shared Jackson mapper writes for ObjectData,
+ * including the NON_NULL rule and the @JsonProperty key names, because the bytes come from that mapper.
+ */
+public final class ObjectDataEncoder {
+
+    private static final String NAME_MARKER = "__ObjectDataEncoder.name__";
+    private static final double PRICE_MARKER = -9.87654321098765E-300; // Never a real price; unique in the output
+    private static final int CACHE_SIZE = ApiConfig.intProperty("json.encoder.cache.size", 256);
+    private static final Object UNCACHEABLE = new Object(); // Snapshot of a value that may be changed in place
+    private static final Map<List<Object>, EncodedBody> cache = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Object>, EncodedBody> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private ObjectDataEncoder() {
+    }
+
+    /**
+     * The JSON body for the payload, from the cache if an identical payload was encoded before.
+     * The key is a snapshot of the payload's values, so changing the payload afterwards is safe. Payloads with
+     * additional data values other than strings, numbers, booleans, maps and lists are serialized every time.
+     */
+    public static EncodedBody encode(ObjectData payload) {
+        List<Object> key = cacheKey(payload);
+        if (key == null) {
+            return new EncodedBody(JsonUtils.toJsonBytes(payload));
+        }
+        synchronized (cache) {
+            EncodedBody cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        EncodedBody encoded = new EncodedBody(JsonUtils.toJsonBytes(payload));
+        synchronized (cache) {
+            cache.put(key, encoded);
+        }
+        return encoded;
+    }
+
+    /**
+     * Prepares a template for variants of the payload that only differ in name and data.price.
+     */
+    public static Template template(ObjectData base) {
+        return new Template(base);
+    }
+
+    /**
+     * Field values of a payload in serialization order, or null if they cannot be snapshotted. Additional data
+     * keys are copied into immutable lists of entries in their order, recursing into nested maps and lists,
+     * so the key is not affected when the caller changes them later.
+     */
+    private static List<Object> cacheKey(ObjectData payload) {
+        ObjectData.Data data = payload.getData();
+        if (data == null) {
+            return Arrays.asList(payload.getName(), null);
+        }
+        Object additional = snapshot(data.getAdditionalProperties());
+        if (additional == UNCACHEABLE) {
+            return null;
+        }
+        return Arrays.asList(payload.getName(), Boolean.TRUE, data.getYear(), data.getPrice(), data.getCpuModel(),
+                data.getCapacity(), data.getHardDiskSize(), additional);
+    }
+
+    /**
+     * Immutable copy of a JSON-like value: maps become lists of entries in iteration order, so that a map and a list
+     * never compare equal, and collections become lists. Anything else that could change in place is UNCACHEABLE.
+     */
+    private static Object snapshot(Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean || value instanceof Integer
+                || value instanceof Long || value instanceof Double || value instanceof BigDecimal) {
+            return value;
+        }
+        if (value instanceof Map) {
+            List<Object> entries = new ArrayList<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                Object element = snapshot(entry.getValue());
+                if (!(entry.getKey() instanceof String) || element == UNCACHEABLE) {
+                    return UNCACHEABLE;
+                }
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), element));
+            }
+            return Collections.unmodifiableList(entries);
+        }
+        if (value instanceof Collection) {
+            List<Object> elements = new ArrayList<>();
+            for (Object element : (Collection<?>) value) {
+                Object copy = snapshot(element);
+                if (copy == UNCACHEABLE) {
+                    return UNCACHEABLE;
+                }
+                elements.add(copy);
+            }
+            return Collections.unmodifiableList(elements);
+        }
+        return UNCACHEABLE;
+    }
+
+    /**
+     * Checks that encode(...) and Template.render(...) produce exactly the bytes of a full serialization, for
+     * names that need escaping, non-ASCII names and prices, and payloads with additional data keys.
+     * Run with ./gradlew checkEncoder; throws IllegalStateException on the first difference.
+     */
+    public static void main(String[] args) {
+        ObjectData base = new ObjectData();
+        base.setName("Base");
+        ObjectData.Data data = new ObjectData.Data();
+        data.setYear(2024);
+        data.setPrice(1849.99);
+        data.setCpuModel("Intel Core i9");
+        data.setHardDiskSize("1 TB");
+        data.setAdditionalProperty("color", "Cloudy \"White\"");
+        data.setAdditionalProperty("capacity GB", 512);
+        data.setAdditionalProperty("tags", Arrays.asList("a", "b\\c", "\u00e9t\u00e9"));
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("weight", 1.5);
+        data.setAdditionalProperty("dimensions", nested);
+        base.setData(data);
+        List<String> names = Arrays.asList("Plain name", "Quote \" and backslash \\", "Tab\tnew\nline\u0001",
+                "</script>", "caf\u00e9 \u00fcber \u00df", "\u65e5\u672c\u8a9e \u0440\u0443\u0441", "Emoji \ud83d\ude80", "");
+        List<Double> prices = Arrays.asList(0.0, -1.5, 1e-7, 1.0E21, 3499.99);
+        int checked = 0;
+        for (ObjectData payload : Arrays.asList(base, withoutData(base), withoutExtras(base))) {
+            Template template = template(payload);
+            for (String name : names) {
+                for (Double price : prices) {
+                    ObjectData variant = JsonUtils.fromTree(JsonUtils.toTree(payload), ObjectData.class);
+                    variant.setName(name);
+                    if (variant.getData() == null) {
+                        variant.setData(new ObjectData.Data());
+                    }
+                    variant.getData().setPrice(price);
+                    byte[] expected = JsonUtils.toJsonBytes(variant);
+                    verify("render", name, expected, template.render(name, price).bytes());
+                    verify("encode", name, expected, encode(variant).bytes());
+                    checked += 2;
+                }
+            }
+        }
+        // A nested value changed after encoding must not be answered from the cache
+        encode(base);
+        nested.put("weight", 2.5);
+        verify("encode after change", base.getName(), JsonUtils.toJsonBytes(base), encode(base).bytes());
+        // Values that cannot be snapshotted, such as arrays, are never cached
+        int[] dimensions = {160, 75};
+        base.getData().getAdditionalProperties().put("dimensions", dimensions);
+        encode(base);
+        dimensions[0] = 161;
+        verify("encode after array change", base.getName(), JsonUtils.toJsonBytes(base), encode(base).bytes());
+        System.out.println("ObjectDataEncoder matches the Jackson writer for " + (checked + 2) + " bodies");
+    }
+
+    private static ObjectData withoutData(ObjectData payload) {
+        ObjectData copy = JsonUtils.fromTree(JsonUtils.toTree(payload), ObjectData.class);
+        copy.setData(null);
+        return copy;
+    }
+
+    private static ObjectData withoutExtras(ObjectData payload) {
+        ObjectData copy = JsonUtils.fromTree(JsonUtils.toTree(payload), ObjectData.class);
+        copy.getData().getAdditionalProperties().clear();
+        return copy;
+    }
+
+    private static void verify(String method, String name, byte[] expected, byte[] actual) {
+        if (!Arrays.equals(expected, actual)) {
+            throw new IllegalStateException(method + " differs from the Jackson writer for name '" + name + "':\n  expected "
+                    + new String(expected, StandardCharsets.UTF_8) + "\n  actual   " + new String(actual, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * A payload serialized once, split around its name and price values.
+     */
+    public static final class Template {
+        private final ObjectData base;
+        private final byte[] json;
+        private final int nameStart; // Offsets of the marker values, quotes included for the name
+        private final int nameEnd;
+        private final int priceStart;
+        private final int priceEnd;
+
+        private Template(ObjectData base) {
+            this.base = copy(base);
+            ObjectData marked = copy(base);
+            marked.setName(NAME_MARKER);
+            if (marked.getData() == null) {
+                marked.setData(new ObjectData.Data());
+            }
+            marked.getData().setPrice(PRICE_MARKER);
+            json = JsonUtils.toJsonBytes(marked);
+            nameStart = indexOfOnce(json, ("\"" + NAME_MARKER + "\"").getBytes(StandardCharsets.UTF_8));
+            nameEnd = nameStart + ("\"" + NAME_MARKER + "\"").getBytes(StandardCharsets.UTF_8).length;
+            priceStart = indexOfOnce(json, Double.toString(PRICE_MARKER).getBytes(StandardCharsets.US_ASCII));
+            priceEnd = priceStart + Double.toString(PRICE_MARKER).length();
+            if (nameEnd > priceStart) {
+                throw new IllegalStateException("Expected \"name\" to be serialized before \"data\" in ObjectData");
+            }
+        }
+
+        /**
+         * The body of the base payload with the given name and price. A null name or price, a price that
+         * is not a finite number, or a name with characters outside the Basic Multilingual Plane (which the
+         * Jackson UTF-8 writer escapes as surrogate pairs) falls back to a full serialization of a copy of the base payload.
+         */
+        public EncodedBody render(String name, Double price) {
+            if (name == null || price == null || price.isNaN() || price.isInfinite() || hasSurrogates(name)) {
+                ObjectData variant = copy(base);
+                variant.setName(name);
+                if (variant.getData() == null && price != null) {
+                    variant.setData(new ObjectData.Data());
+                }
+                if (variant.getData() != null) {
+                    variant.getData().setPrice(price);
+                }
+                return new EncodedBody(JsonUtils.toJsonBytes(variant));
+            }
+            // Same escaping and number format the Jackson generator uses
+            byte[] nameBytes = JsonStringEncoder.getInstance().quoteAsUTF8(name);
+            byte[] priceBytes = Double.toString(price).getBytes(StandardCharsets.US_ASCII);
+            byte[] body = new byte[json.length - (nameEnd - nameStart) - (priceEnd - priceStart) + nameBytes.length + 2 + priceBytes.length];
+            int position = copy(json, 0, nameStart, body, 0);
+            body[position++] = '"';
+            System.arraycopy(nameBytes, 0, body, position, nameBytes.length);
+            position += nameBytes.length;
+            body[position++] = '"';
+            position = copy(json, nameEnd, priceStart, body, position);
+            System.arraycopy(priceBytes, 0, body, position, priceBytes.length);
+            position += priceBytes.length;
+            copy(json, priceEnd, json.length, body, position);
+            return new EncodedBody(body);
+        }
+
+        private static boolean hasSurrogates(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                if (Character.isSurrogate(value.charAt(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static int copy(byte[] source, int from, int to, byte[] target, int position) {
+            System.arraycopy(source, from, target, position, to - from);
+            return position + to - from;
+        }
+
+        private static ObjectData copy(ObjectData payload) {
+            return JsonUtils.fromTree(JsonUtils.toTree(payload), ObjectData.class);
+        }
+
+        private static int indexOfOnce(byte[] data, byte[] marker) {
+            int found = -1;
+            for (int i = 0; i <= data.length - marker.length; i++) {
+                if (regionMatches(data, i, marker)) {
+                    if (found >= 0) {
+                        throw new IllegalArgumentException("Payload already contains the template marker " + new String(marker, StandardCharsets.UTF_8));
+                    }
+                    found = i;
+                }
+            }
+            if (found < 0) {
+                throw new IllegalStateException("Template marker " + new String(marker, StandardCharsets.UTF_8) + " not found in serialized payload");
+            }
+            return found;
+        }
+
+        private static boolean regionMatches(byte[] data, int offset, byte[] marker) {
+            for (int j = 0; j < marker.length; j++) {
+                if (data[offset + j] != marker[j]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+// src/test/java/com/natwest/automation/utils/ReportData.java
+package com.natwest.automation.utils;
+
+import com.natwest.automation.config.ExecutionProfile;
+import net.serenitybdd.core.Serenity;
+
+import java.util.function.Supplier;
+
+/**
+ * Attaches data to the current step of the Serenity report, unless the perf profile is active.
+ * The contents are only built when they will be recorded, so the perf profile pays nothing for them.
+ */
+public final class ReportData {
+
+    private ReportData() {
+    }
+
+    public static void record(String title, Supplier<String> contents) {
+        if (ExecutionProfile.recordsReportData()) {
+            Serenity.recordReportData().withTitle(title).andContents(contents.get());
+        }
+    }
+}
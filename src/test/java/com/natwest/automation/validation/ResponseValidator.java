@@ -0,0 +1,227 @@
+// src/test/java/com/natwest/automation/validation/ResponseValidator.java
+package com.natwest.automation.validation;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.natwest.automation.config.ApiConfig;
+import com.natwest.automation.utils.JsonUtils;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compares an expected payload object with a JSON response in a single pass over one parsed tree.
+ * <p>
+ * The comparison rules for a type are built once from the way Jackson serializes it, so JSON names
+ * such as "CPU model" come from the same annotations used to send the request. Null expected values
+ * are not checked, matching the NON_NULL payloads. Numbers are compared by value within
+ * validation.number.tolerance (default 1e-6), so 1849.99 matches whether it was parsed as float,
+ * double or BigDecimal. Every mismatch is collected and reported together.
+ */
+public final class ResponseValidator<T> {
+
+    private static final Map<Class<?>, ResponseValidator<?>> VALIDATORS = new ConcurrentHashMap<>();
+
+    private final List<Rule> rules;
+
+    private ResponseValidator(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Returns the validator for a payload type, building its rules on first use.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ResponseValidator<T> forType(Class<T> type) {
+        return (ResponseValidator<T>) VALIDATORS.computeIfAbsent(type,
+                key -> new ResponseValidator<>(compile(key, ApiConfig.doubleProperty("validation.number.tolerance", 1e-6))));
+    }
+
+    /**
+     * Parses the response body once and fails with every mismatch listed if it does not match the expected object.
+     * Fields named in {@code requiredFields} must be present and non-null in the response, e.g. "id" and "createdAt".
+     */
+    public void assertMatches(T expected, Response response, String... requiredFields) {
+        List<String> mismatches = validate(expected, JsonUtils.readTree(response.asByteArray()), requiredFields);
+        if (!mismatches.isEmpty()) {
+            throw new AssertionError("Response does not match the expected object (" + mismatches.size() + " mismatches):\n  "
+                    + String.join("\n  ", mismatches));
+        }
+    }
+
+    /**
+     * Returns every difference between the expected object and the response tree; empty when they match.
+     */
+    public List<String> validate(T expected, JsonNode actual, String... requiredFields) {
+        List<String> mismatches = new ArrayList<>();
+        for (String field : requiredFields) {
+            JsonNode value = actual.get(field);
+            if (value == null || value.isNull()) {
+                mismatches.add(field + ": expected to be present but was " + (value == null ? "missing" : "null"));
+            }
+        }
+        for (Rule rule : rules) {
+            rule.check(expected, actual, "", mismatches);
+        }
+        return mismatches;
+    }
+
+    /**
+     * Builds one rule per serialized property of the type, recursing into nested payload classes.
+     */
+    private static List<Rule> compile(Class<?> type, double tolerance) {
+        BeanDescription description = JsonUtils.describeForSerialization(type);
+        List<Rule> rules = new ArrayList<>();
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            AnnotatedMember accessor = property.getAccessor();
+            if (accessor == null) {
+                continue; // Not serialized, so never sent and not expected back
+            }
+            rules.add(compileProperty(property.getName(), accessor, property.getPrimaryType(), tolerance));
+        }
+        AnnotatedMember anyGetter = description.findAnyGetter();
+        if (anyGetter != null) {
+            rules.add(new AnyPropertiesRule(anyGetter, tolerance));
+        }
+        return Collections.unmodifiableList(rules);
+    }
+
+    private static Rule compileProperty(String name, AnnotatedMember accessor, JavaType type, double tolerance) {
+        Class<?> raw = type.getRawClass();
+        if (Number.class.isAssignableFrom(raw) || (raw.isPrimitive() && raw != boolean.class && raw != char.class)) {
+            return new ValueRule(name, accessor, (expected, actual) -> actual.isNumber()
+                    && Math.abs(((Number) expected).doubleValue() - actual.doubleValue()) <= tolerance);
+        }
+        if (raw == String.class || raw == Character.class || raw == char.class || type.isEnumType()) {
+            return new ValueRule(name, accessor, (expected, actual) -> actual.isTextual() && actual.asText().equals(expected.toString()));
+        }
+        if (raw == Boolean.class || raw == boolean.class) {
+            return new ValueRule(name, accessor, (expected, actual) -> actual.isBoolean() && actual.booleanValue() == (Boolean) expected);
+        }
+        if (type.isContainerType() || raw.getName().startsWith("java.")) {
+            return new ValueRule(name, accessor, (expected, actual) -> treesMatch(JsonUtils.toTree(expected), actual, tolerance));
+        }
+        return new NestedRule(name, accessor, compile(raw, tolerance));
+    }
+
+    private static boolean treesMatch(JsonNode expected, JsonNode actual, double tolerance) {
+        Comparator<JsonNode> numbersWithinTolerance = (left, right) -> {
+            if (left.isNumber() && right.isNumber()) {
+                return Math.abs(left.doubleValue() - right.doubleValue()) <= tolerance ? 0 : 1;
+            }
+            return left.equals(right) ? 0 : 1;
+        };
+        return expected.equals(numbersWithinTolerance, actual);
+    }
+
+    private static String path(String parent, String name) {
+        return parent.isEmpty() ? name : parent + "." + name;
+    }
+
+    private interface Rule {
+        void check(Object expectedOwner, JsonNode actualOwner, String parentPath, List<String> mismatches);
+    }
+
+    private interface ValueMatcher {
+        boolean matches(Object expected, JsonNode actual);
+    }
+
+    /**
+     * Compares one scalar or container property.
+     */
+    private static final class ValueRule implements Rule {
+        private final String name;
+        private final AnnotatedMember accessor;
+        private final ValueMatcher matcher;
+
+        ValueRule(String name, AnnotatedMember accessor, ValueMatcher matcher) {
+            this.name = name;
+            this.accessor = accessor;
+            this.matcher = matcher;
+        }
+
+        @Override
+        public void check(Object expectedOwner, JsonNode actualOwner, String parentPath, List<String> mismatches) {
+            Object expected = accessor.getValue(expectedOwner);
+            if (expected == null) {
+                return;
+            }
+            JsonNode actual = actualOwner.get(name);
+            if (actual == null || actual.isNull() || !matcher.matches(expected, actual)) {
+                mismatches.add(path(parentPath, name) + ": expected " + JsonUtils.toTree(expected) + " but was " + actual);
+            }
+        }
+    }
+
+    /**
+     * Descends into a nested payload object, e.g. "data".
+     */
+    private static final class NestedRule implements Rule {
+        private final String name;
+        private final AnnotatedMember accessor;
+        private final List<Rule> rules;
+
+        NestedRule(String name, AnnotatedMember accessor, List<Rule> rules) {
+            this.name = name;
+            this.accessor = accessor;
+            this.rules = rules;
+        }
+
+        @Override
+        public void check(Object expectedOwner, JsonNode actualOwner, String parentPath, List<String> mismatches) {
+            Object expected = accessor.getValue(expectedOwner);
+            if (expected == null) {
+                return;
+            }
+            String path = path(parentPath, name);
+            JsonNode actual = actualOwner.get(name);
+            if (actual == null || !actual.isObject()) {
+                mismatches.add(path + ": expected an object but was " + actual);
+                return;
+            }
+            for (Rule rule : rules) {
+                rule.check(expected, actual, path, mismatches);
+            }
+        }
+    }
+
+    /**
+     * Compares the entries of a {@code @JsonAnyGetter} map, which have no fixed names or types.
+     */
+    private static final class AnyPropertiesRule implements Rule {
+        private final AnnotatedMember anyGetter;
+        private final double tolerance;
+
+        AnyPropertiesRule(AnnotatedMember anyGetter, double tolerance) {
+            this.anyGetter = anyGetter;
+            this.tolerance = tolerance;
+        }
+
+        @Override
+        public void check(Object expectedOwner, JsonNode actualOwner, String parentPath, List<String> mismatches) {
+            Object properties = anyGetter.getValue(expectedOwner);
+            if (!(properties instanceof Map)) {
+                return;
+            }
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) properties).entrySet()) {
+                if (entry.getValue() == null) {
+                    continue;
+                }
+                String name = String.valueOf(entry.getKey());
+                JsonNode expected = JsonUtils.toTree(entry.getValue());
+                JsonNode actual = actualOwner.get(name);
+                if (actual == null || !treesMatch(expected, actual, tolerance)) {
+                    mismatches.add(path(parentPath, name) + ": expected " + expected + " but was " + actual);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+// src/test/java/com/natwest/automation/watch/RerunTimer.java
+package com.natwest.automation.watch;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestCaseFinished;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cucumber plugin that adds up the time spent in scenarios during a rerun, so WatchRunner can report the warm
+ * rerun time apart from the start-up of the Cucumber runtime that each rerun builds.
+ * Cucumber creates a new plugin instance for every rerun, so the totals are kept in static state.
+ */
+public class RerunTimer implements ConcurrentEventListener {
+
+    private static final LongAdder SCENARIOS = new LongAdder();
+    private static final LongAdder SCENARIO_NANOS = new LongAdder();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        SCENARIOS.increment();
+        SCENARIO_NANOS.add(event.getResult().getDuration().toNanos());
+    }
+
+    /**
+     * Scenarios finished since the last reset.
+     */
+    static long scenarios() {
+        return SCENARIOS.sum();
+    }
+
+    /**
+     * Time spent in those scenarios, hooks included.
+     */
+    static long scenarioNanos() {
+        return SCENARIO_NANOS.sum();
+    }
+
+    static void reset() {
+        SCENARIOS.reset();
+        SCENARIO_NANOS.reset();
+    }
+}
@@ -0,0 +1,218 @@
+// src/test/java/com/natwest/automation/watch/ScenarioIndex.java
+package com.natwest.automation.watch;
+
+import com.natwest.automation.utils.FeatureFiles;
+import com.natwest.automation.utils.FeatureScenario;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Remembers the scenarios of every feature file under a directory, so that after a change only the affected
+ * ones are run again. Locations are Cucumber feature arguments such as "src/test/resources/features/x.feature:26:82".
+ * <p>
+ * Feature files are read with Cucumber's Gherkin parser (see FeatureFiles), so a scenario is what Cucumber runs:
+ * its name, its inherited tags and its steps, Background steps and filled-in outline rows included. After an edit,
+ * the scenarios that are new or whose content changed are affected; an edited Background therefore affects every
+ * scenario below it. An edit that changes no scenario (e.g. only a comment or the description), and a file that
+ * does not parse, affect the whole file. Scenarios are identified by FeatureScenario.getKey(), which does not
+ * depend on their line.
+ */
+public class ScenarioIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScenarioIndex.class);
+
+    private final Path featuresDir;
+    private final Map<Path, List<FeatureScenario>> features = new TreeMap<>();
+
+    public ScenarioIndex(Path featuresDir) {
+        this.featuresDir = featuresDir;
+    }
+
+    /**
+     * Reads every feature file under the directory.
+     */
+    public synchronized void scan() {
+        features.clear();
+        try (Stream<Path> files = Files.walk(featuresDir)) {
+            for (Path file : files.filter(ScenarioIndex::isFeature).collect(Collectors.toList())) {
+                List<FeatureScenario> scenarios = parse(file);
+                if (scenarios != null) {
+                    features.put(file, scenarios);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to scan feature files under " + featuresDir, e);
+        }
+    }
+
+    /**
+     * Location of every feature file.
+     */
+    public List<String> all() {
+        return List.of(location(featuresDir));
+    }
+
+    /**
+     * Re-reads a changed feature file and returns the location of its affected scenarios; nothing if it was deleted.
+     */
+    public synchronized List<String> featureChanged(Path file) {
+        if (!Files.exists(file)) {
+            features.remove(file);
+            return List.of();
+        }
+        List<FeatureScenario> current = parse(file);
+        List<FeatureScenario> previous = current == null ? features.remove(file) : features.put(file, current);
+        if (current == null || previous == null) {
+            return List.of(location(file));
+        }
+        Set<String> known = previous.stream().map(ScenarioIndex::content).collect(Collectors.toSet());
+        List<Integer> lines = current.stream()
+                .filter(scenario -> !known.contains(content(scenario)))
+                .map(FeatureScenario::getLine)
+                .collect(Collectors.toList());
+        return List.of(lines.isEmpty() ? location(file) : location(file, lines));
+    }
+
+    /**
+     * Locations of the scenarios whose steps, doc strings or tables mention a classpath resource such as
+     * "payloads/new_object.json".
+     */
+    public synchronized List<String> referencing(String resource) {
+        List<String> locations = new ArrayList<>();
+        features.forEach((file, scenarios) -> {
+            List<Integer> lines = scenarios.stream()
+                    .filter(scenario -> scenario.getText().contains(resource))
+                    .map(FeatureScenario::getLine)
+                    .collect(Collectors.toList());
+            if (!lines.isEmpty()) {
+                locations.add(location(file, lines));
+            }
+        });
+        return locations;
+    }
+
+    /**
+     * The scenarios at the given locations, by file, as their keys, which stay the same when lines above them are
+     * added or removed. An empty list stands for the whole file or directory. Files are read as they are now, like
+     * Cucumber reads them for the run.
+     */
+    public Map<String, List<String>> scenariosAt(List<String> locations) {
+        Map<String, List<String>> scenarios = new LinkedHashMap<>();
+        for (String location : locations) {
+            String[] parts = location.split(":(?=\\d)");
+            Path file = Paths.get(parts[0]);
+            List<FeatureScenario> current = parts.length > 1 && Files.isRegularFile(file) ? parse(file) : null;
+            List<String> keys = scenarios.computeIfAbsent(parts[0], path -> new ArrayList<>());
+            Set<Integer> lines = Arrays.stream(parts).skip(1).map(Integer::valueOf).collect(Collectors.toSet());
+            if (current != null) {
+                current.stream()
+                        .filter(scenario -> lines.contains(scenario.getLine()) || lines.contains(scenario.getScenarioLine()))
+                        .map(FeatureScenario::getKey)
+                        .filter(key -> !keys.contains(key))
+                        .forEach(keys::add);
+            }
+            if (parts.length == 1 || current == null || keys.isEmpty()) {
+                keys.clear();
+            }
+        }
+        return scenarios;
+    }
+
+    /**
+     * Current locations of scenarios returned by scenariosAt, read again from the feature files. Scenarios that
+     * were renamed or deleted since, and files that no longer exist, are left out.
+     */
+    public List<String> locate(Map<String, List<String>> scenarios) {
+        List<String> locations = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : scenarios.entrySet()) {
+            Path file = Paths.get(entry.getKey());
+            if (!Files.exists(file)) {
+                continue;
+            }
+            List<FeatureScenario> current = entry.getValue().isEmpty() ? null : parse(file);
+            if (current == null) {
+                locations.add(location(file)); // Whole file, or one that does not parse: let Cucumber report it
+                continue;
+            }
+            List<Integer> lines = current.stream()
+                    .filter(scenario -> entry.getValue().contains(scenario.getKey()))
+                    .map(FeatureScenario::getLine)
+                    .collect(Collectors.toList());
+            if (!lines.isEmpty()) {
+                locations.add(location(file, lines));
+            }
+        }
+        return locations;
+    }
+
+    /**
+     * The given locations merged per file, without duplicate lines; all() if one of them is all().
+     */
+    public List<String> merge(List<String> locations) {
+        String everything = location(featuresDir);
+        if (locations.contains(everything)) {
+            return all();
+        }
+        Map<String, Set<String>> linesByFile = new LinkedHashMap<>();
+        Set<String> wholeFiles = new HashSet<>();
+        for (String location : locations) {
+            String[] parts = location.split(":(?=\\d)");
+            Set<String> lines = linesByFile.computeIfAbsent(parts[0], file -> new LinkedHashSet<>());
+            if (parts.length == 1) {
+                wholeFiles.add(parts[0]);
+            }
+            lines.addAll(Arrays.asList(parts).subList(1, parts.length));
+        }
+        List<String> merged = new ArrayList<>();
+        linesByFile.forEach((file, lines) -> merged.add(wholeFiles.contains(file) ? file : file + ":" + String.join(":", lines)));
+        return merged;
+    }
+
+    static boolean isFeature(Path file) {
+        return FeatureFiles.isFeature(file);
+    }
+
+    /**
+     * The scenarios of a feature file, or null if it cannot be read or parsed, e.g. while it is half edited.
+     */
+    private static List<FeatureScenario> parse(Path file) {
+        try {
+            return FeatureFiles.parse(file);
+        } catch (RuntimeException e) {
+            logger.warn("Could not parse {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * What a scenario runs: its key, tags and steps. Two scenarios with the same content are the same scenario.
+     */
+    private static String content(FeatureScenario scenario) {
+        return scenario.getKey() + "\n" + scenario.getTags() + "\n" + scenario.getText();
+    }
+
+    private static String location(Path file) {
+        return file.toString().replace('\\', '/');
+    }
+
+    private static String location(Path file, List<Integer> lines) {
+        return location(file) + lines.stream().map(line -> ":" + line).collect(Collectors.joining());
+    }
+}
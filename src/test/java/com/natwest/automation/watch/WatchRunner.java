@@ -0,0 +1,331 @@
+// src/test/java/com/natwest/automation/watch/WatchRunner.java
+package com.natwest.automation.watch;
+
+import com.natwest.automation.cleanup.CreatedObjectRegistry;
+import com.natwest.automation.config.ApiConfig;
+import com.natwest.automation.config.ExecutionProfile;
+import com.natwest.automation.utils.JsonUtils;
+import io.cucumber.core.cli.Main;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps one JVM running and reruns scenarios when feature files or payloads change, so an edit-and-run cycle skips
+ * Gradle, Serenity start-up, class loading, ObjectMapper setup and new HTTP connections. Each rerun is a Cucumber
+ * run in the same JVM, on the same shared HTTP client, JSON mappers and fixture pool.
+ * <ul>
+ *   <li>A changed .feature file reruns only the scenarios whose text changed (see ScenarioIndex).</li>
+ *   <li>A changed payload is evicted from the JsonUtils template cache and reruns the scenarios that mention it,
+ *       or every scenario if none does (it may be loaded from Java code).</li>
+ * </ul>
+ * Changed files are copied to the classpath copy of src/test/resources first, because payloads and fixture demand
+ * are read from the classpath. Changes to step definitions or other Java code still need a restart.
+ * <p>
+ * Settings: watch.resources.dir (default src/test/resources), watch.tags (Cucumber tag expression applied to every
+ * rerun), watch.debounce.ms (quiet time before a rerun, default 200), watch.initial.run (run everything once at
+ * start to warm up, default true). Uses the perf profile unless -Dexecution.profile is given. Created objects are
+ * kept between reruns and deleted when the runner exits.
+ * <p>
+ * Run with: ./gradlew watchTest, then press Enter to rerun the last selection, "a" to run everything, "q" to quit.
+ * A rerun finds the last selection's scenarios again by their keys (see FeatureScenario.getKey), so edits above them
+ * do not shift it to other scenarios. Every run goes through Cucumber's Main and so builds a new Cucumber runtime,
+ * which scans the glue and parses the selected features again; the time spent in scenarios is printed next to the
+ * total, which includes that start-up.
+ */
+public class WatchRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WatchRunner.class);
+    private static final Selection QUIT = new Selection("quit", List.of());
+
+    private final Path resourcesDir;
+    private final Path featuresDir;
+    private final Path classpathResources; // null when the resources are not on the file system
+    private final ScenarioIndex index;
+    private final String tags;
+    private final long debounceMillis;
+    private final BlockingQueue<Selection> requests = new LinkedBlockingQueue<>();
+    private final Map<WatchKey, Path> watchedDirs = new ConcurrentHashMap<>();
+    private WatchService watcher;
+    private volatile Map<String, List<String>> lastScenarios; // Scenarios of the last run, see ScenarioIndex.scenariosAt
+
+    public WatchRunner(Path resourcesDir, String tags, long debounceMillis) {
+        this.resourcesDir = resourcesDir;
+        this.featuresDir = resourcesDir.resolve("features");
+        this.classpathResources = classpathResources();
+        this.index = new ScenarioIndex(featuresDir);
+        this.tags = tags;
+        this.debounceMillis = debounceMillis;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (System.getProperty(ExecutionProfile.PROPERTY) == null) {
+            System.setProperty(ExecutionProfile.PROPERTY, "perf"); // Fastest feedback; the Serenity report is not built here
+        }
+        // Keep fixtures and created objects between reruns, and delete them once on exit
+        boolean teardown = ApiConfig.booleanProperty("cleanup.teardown.enabled", true);
+        System.setProperty("cleanup.teardown.enabled", "false");
+        if (teardown) {
+            Runtime.getRuntime().addShutdownHook(new Thread(
+                    () -> System.out.println("Teardown of created objects: " + CreatedObjectRegistry.instance().deleteAll()),
+                    "watch-teardown"));
+        }
+        // A rerun of a few scenarios is neither a complete run to export nor a sample for the latency history
+        System.setProperty("metrics.export.enabled", "false");
+        System.setProperty("history.enabled", "false");
+
+        WatchRunner runner = new WatchRunner(Paths.get(System.getProperty("watch.resources.dir", "src/test/resources")),
+                System.getProperty("watch.tags", ""), ApiConfig.longProperty("watch.debounce.ms", 200));
+        runner.watch(ApiConfig.booleanProperty("watch.initial.run", true));
+        System.exit(0);
+    }
+
+    /**
+     * Watches the resources and runs every selection until "q" is entered.
+     */
+    public void watch(boolean initialRun) throws IOException, InterruptedException {
+        index.scan();
+        try (WatchService service = FileSystems.getDefault().newWatchService()) {
+            watcher = service;
+            register(featuresDir);
+            register(resourcesDir.resolve("payloads"));
+            startDaemon("watch-files", this::watchFiles);
+            startDaemon("watch-console", this::readConsole);
+            if (initialRun) {
+                requests.add(new Selection("initial run", index.all()));
+            } else {
+                printPrompt();
+            }
+            for (Selection selection = requests.take(); selection != QUIT; selection = requests.take()) {
+                run(selection);
+            }
+        }
+    }
+
+    private void run(Selection selection) {
+        if (selection.locations.isEmpty()) {
+            System.out.println(selection.reason + ": no scenarios affected");
+            printPrompt();
+            return;
+        }
+        lastScenarios = index.scenariosAt(selection.locations);
+        List<String> args = new ArrayList<>(List.of("--glue", "com.natwest.automation.steps",
+                "--plugin", "pretty", "--plugin", "summary", "--plugin", RerunTimer.class.getName(), "--publish-quiet"));
+        if (!tags.isEmpty()) {
+            args.add("--tags");
+            args.add(tags);
+        }
+        args.addAll(selection.locations);
+        // Fixtures are provisioned for the scenarios of the first run (see ScenarioHooks.provisionFixtures)
+        System.setProperty("fixture.features", String.join(",", selection.locations));
+        System.setProperty("fixture.tags", tags);
+        System.out.println();
+        System.out.println("=== " + selection.reason + ": " + String.join(" ", selection.locations));
+        RerunTimer.reset();
+        long start = System.nanoTime();
+        byte exitStatus = Main.run(args.toArray(new String[0]), WatchRunner.class.getClassLoader());
+        long totalNanos = System.nanoTime() - start;
+        // Each rerun builds a new Cucumber runtime; the scenario time is what the warm JVM saves on
+        System.out.printf(Locale.ROOT, "=== %s: %d scenarios in %d ms, %d ms in total with Cucumber start-up%n",
+                exitStatus == 0 ? "PASSED" : "FAILED", RerunTimer.scenarios(),
+                TimeUnit.NANOSECONDS.toMillis(RerunTimer.scenarioNanos()), TimeUnit.NANOSECONDS.toMillis(totalNanos));
+        printPrompt();
+    }
+
+    private void printPrompt() {
+        System.out.println("Watching " + featuresDir + " and " + resourcesDir.resolve("payloads")
+                + " (Enter = rerun last, a = run all, q = quit)");
+    }
+
+    /**
+     * Collects file events until none arrive for watch.debounce.ms, then queues the affected scenarios.
+     * Editors often save through temporary files, so a single save can produce several events.
+     */
+    private void watchFiles() {
+        try {
+            while (true) {
+                Set<Path> changed = new LinkedHashSet<>();
+                collect(watcher.take(), changed);
+                for (WatchKey key = watcher.poll(debounceMillis, TimeUnit.MILLISECONDS); key != null;
+                     key = watcher.poll(debounceMillis, TimeUnit.MILLISECONDS)) {
+                    collect(key, changed);
+                }
+                Selection selection = affectedBy(changed);
+                if (selection != null) {
+                    requests.add(selection);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Runner is shutting down
+        }
+    }
+
+    private void collect(WatchKey key, Set<Path> changed) {
+        Path dir = watchedDirs.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (dir == null || event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                continue;
+            }
+            Path path = dir.resolve((Path) event.context());
+            String name = path.getFileName().toString();
+            if (name.startsWith(".") || name.endsWith("~")) {
+                continue; // Editor swap and backup files
+            }
+            if (Files.isDirectory(path)) {
+                if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                    register(path); // New directories are watched too
+                }
+                continue;
+            }
+            changed.add(path);
+        }
+        key.reset();
+    }
+
+    private Selection affectedBy(Set<Path> changed) {
+        List<String> locations = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (Path path : changed) {
+            try {
+                syncToClasspath(path);
+                String resource = resourcesDir.relativize(path).toString().replace('\\', '/');
+                if (path.startsWith(featuresDir)) {
+                    if (!ScenarioIndex.isFeature(path)) {
+                        continue;
+                    }
+                    locations.addAll(index.featureChanged(path));
+                } else {
+                    JsonUtils.evictFromCache(resource);
+                    List<String> referencing = index.referencing(resource);
+                    locations.addAll(referencing.isEmpty() ? index.all() : referencing);
+                }
+                names.add(resource);
+            } catch (IOException e) {
+                logger.warn("Could not process change to {}: {}", path, e.getMessage());
+            }
+        }
+        return names.isEmpty() ? null : new Selection("changed " + String.join(", ", names), index.merge(locations));
+    }
+
+    /**
+     * Copies a changed resource over its classpath copy, or deletes the copy if the resource was deleted.
+     */
+    private void syncToClasspath(Path path) throws IOException {
+        if (classpathResources == null) {
+            return;
+        }
+        Path target = classpathResources.resolve(resourcesDir.relativize(path).toString());
+        if (Files.exists(path)) {
+            Files.createDirectories(target.getParent());
+            Files.copy(path, target, StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.deleteIfExists(target);
+        }
+    }
+
+    private void readConsole() {
+        BufferedReader console = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        try {
+            for (String line = console.readLine(); line != null; line = console.readLine()) {
+                String command = line.trim().toLowerCase(Locale.ROOT);
+                if (command.equals("q")) {
+                    break;
+                } else if (command.equals("a")) {
+                    requests.add(new Selection("run all", index.all()));
+                } else if (command.isEmpty() && lastScenarios != null) {
+                    rerunLast();
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Could not read the console: {}", e.getMessage());
+        }
+        requests.add(QUIT); // "q" or end of input
+    }
+
+    /**
+     * Queues the last run's scenarios at their current lines. Lines move when scenarios above them are edited,
+     * so the last run's locations may point at other scenarios by now. Files that do not parse are rerun whole.
+     */
+    private void rerunLast() {
+        requests.add(new Selection("rerun", index.locate(lastScenarios)));
+    }
+
+    /**
+     * Registers a directory and everything below it.
+     */
+    private void register(Path root) {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (Stream<Path> dirs = Files.walk(root)) {
+            for (Path dir : dirs.filter(Files::isDirectory).collect(Collectors.toList())) {
+                WatchKey key = dir.register(watcher, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                watchedDirs.put(key, dir);
+            }
+        } catch (IOException e) {
+            logger.warn("Could not watch {}: {}", root, e.getMessage());
+        }
+    }
+
+    private static void startDaemon(String name, Runnable task) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Directory on the classpath that holds the copy of the test resources, found through the features directory.
+     */
+    private static Path classpathResources() {
+        URL url = WatchRunner.class.getClassLoader().getResource("features");
+        if (url == null || !"file".equals(url.getProtocol())) {
+            logger.warn("Test resources are not on the file system; changed payloads will not be picked up");
+            return null;
+        }
+        try {
+            return Paths.get(url.toURI()).getParent();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Unexpected classpath location " + url, e);
+        }
+    }
+
+    private static class Selection {
+
+        private final String reason;
+        private final List<String> locations;
+
+        private Selection(String reason, List<String> locations) {
+            this.reason = reason;
+            this.locations = locations;
+        }
+    }
+}
@@ -32,12 +32,37 @@ Feature: Objects API CRUD Operations
 
   @GetObject @Positive
   Scenario: Verify an existing object can be retrieved by ID
-    Given a new object is created with name "Google Pixel 6 Pro"
+    Given a shared fixture object named "Google Pixel 6 Pro"
     When I send a GET request to retrieve the object using its stored ID
     Then the response status code should be 200
     And the response should contain the details of the retrieved object
     And the retrieved object name should be "Google Pixel 6 Pro"
 
+  @Latency @Positive
+  Scenario: Verify an existing object can be retrieved within the latency SLA
+    Given a shared fixture object named "Latency Probe"
+    When I send a GET request to retrieve the object using its stored ID
+    Then the response status code should be 200
+    And the response time should be under 2000 ms
+    When I send 50 GET requests for the stored ID
+    Then all repeated requests should return status code 200
+    And the p95 latency should be under 1500 ms
+
+  @BulkCreate @Positive @JsonPayload
+  Scenario: Verify a catalog of objects can be created from a JSON Lines payload stream
+    When I create all objects from payload stream "payloads/catalog.jsonl" with concurrency 4
+    Then the payload stream should have contained 15 records
+    And every object from the payload stream should be created and match its source record
+
+  @Concurrent @Positive
+  Scenario: Verify objects created concurrently can be retrieved concurrently
+    When I POST 10 objects concurrently named "Fan-out Object"
+    Then all concurrent responses should have status code 200
+    When I send 30 concurrent GET requests for the stored IDs
+    Then all concurrent responses should have status code 200
+    And every concurrent GET response should return the requested object
+    And the p95 latency should be under 2000 ms
+
   @ListObjects @Positive
   Scenario: Verify multiple objects can be listed|
     When I send a GET request to list all objects
@@ -45,9 +70,18 @@ Feature: Objects API CRUD Operations
     And the response list should not be empty
     And the response list should contain at least 2 objects
 
+  @ListObjects @Positive @Streaming
+  Scenario: Verify the object list can be validated in a single streaming pass
+    Given the streamed list is expected to include the object IDs "1,2,3"
+    When I stream a GET request to list all objects
+    Then the streamed list response status code should be 200
+    And the streamed list should contain at least 2 objects
+    And every streamed object should have the fields "id,name"
+    And the streamed list should include all expected object IDs
+
   @DeleteObject @Positive
   Scenario: Verify an existing object can be deleted by ID
-    Given a new object is created with name "Object To Be Deleted"
+    Given an exclusive fixture object named "Object To Be Deleted"
     When I send a DELETE request to delete the object using its stored ID
     Then the response status code should be 200
     And the response message should indicate successful deletion for the stored ID